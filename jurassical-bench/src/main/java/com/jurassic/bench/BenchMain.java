@@ -0,0 +1,24 @@
+package com.jurassic.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * ׼
+ * jmhвĻĬϼgc profiler,ÿβķ(gc.alloc.rate.norm)
+ * Throughputģʽ,ӳٷλSampleTimeģʽ
+ * ÷: java -jar target/benchmarks.jar [jmh] [׼Ƶ]
+ *
+ * @author yzhu
+ */
+public class BenchMain {
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.build()).run();
+	}
+}
@@ -0,0 +1,124 @@
+package com.jurassic.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.jurassic.core.util.BTree;
+import com.jurassic.core.util.Forest;
+import com.jurassic.core.util.MappingObject;
+import com.jurassic.core.util.Pool;
+import com.jurassic.core.util.PooledObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * utilмĻ׼
+ * Ԥsizekey,ÿβηһkey
+ *
+ * @author yzhu
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionBenchmark {
+	private static final int M = 32;// B+Ľ
+
+	@Param({"1024", "65536"})
+	public int size;// Ԥkey
+
+	private Integer[] _keys;// key
+	private Integer[] _absentKeys;// ڼеkey,ڲɾ
+	private int _cursor = 0;// ǰʵkey
+
+	private BTree<Integer, Integer> _btree;
+	private Forest<Integer, Integer> _forest;
+	private MappingObject<Integer, Integer> _mapping;
+	private Pool<StringBuilder> _pool;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(31);
+		this._keys = new Integer[this.size];
+		this._absentKeys = new Integer[this.size];
+		for (int i = 0; i < this.size; i++) {
+			this._keys[i] = i * 2;
+			this._absentKeys[i] = i * 2 + 1;
+		}
+		for (int i = this.size - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			Integer tmp = this._keys[i];
+			this._keys[i] = this._keys[j];
+			this._keys[j] = tmp;
+		}
+		this._btree = new BTree<>(M);
+		this._forest = new Forest<>(true, M);
+		this._mapping = new MappingObject<>(true, 1024);
+		for (Integer key : this._keys) {
+			this._btree.insert(key, key);
+			this._forest.insert(key, key);
+			this._mapping.set(key, key);
+		}
+		this._pool = new Pool<>(true, 1024, StringBuilder.class);
+	}
+
+	private int next() {
+		int cursor = this._cursor;
+		this._cursor = cursor + 1 == this.size ? 0 : cursor + 1;
+		return cursor;
+	}
+
+	@Benchmark
+	public Integer btreeSearch() {
+		return this._btree.search(this._keys[this.next()]);
+	}
+
+	@Benchmark
+	public Integer btreeInsertRemove() {
+		Integer key = this._absentKeys[this.next()];
+		this._btree.insert(key, key);
+		return this._btree.remove(key);
+	}
+
+	@Benchmark
+	public Integer forestSearch() {
+		return this._forest.search(this._keys[this.next()]);
+	}
+
+	@Benchmark
+	public Integer forestInsertRemove() {
+		Integer key = this._absentKeys[this.next()];
+		this._forest.insert(key, key);
+		return this._forest.remove(key);
+	}
+
+	@Benchmark
+	public Integer mappingContainKey() {
+		return this._mapping.containKey(this._keys[this.next()]);
+	}
+
+	@Benchmark
+	public Integer mappingSetRemove() {
+		Integer key = this._absentKeys[this.next()];
+		this._mapping.set(key, key);
+		return this._mapping.remove(key);
+	}
+
+	@Benchmark
+	public StringBuilder poolMallocFree() {
+		PooledObject<StringBuilder> pooled = this._pool.mallocPooledObj();
+		this._pool.freePooledObj(pooled);
+		return pooled.getObject();
+	}
+}
@@ -0,0 +1,77 @@
+package com.jurassic.bench;
+
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import com.jurassic.bench.fixture.BenchPackage;
+import com.jurassic.core.classloader.ComponentClassLoader;
+import com.jurassic.core.compiler.Compiler;
+import com.jurassic.core.compiler.element.ProgressElement;
+import com.jurassic.core.progress.Progress;
+import com.jurassic.core.progress.factory.ProgressTemplate;
+import com.jurassic.core.progress.handler.pin.ObjectPin;
+import com.jurassic.core.progress.handler.pin.Pin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ģɵĻ׼
+ * parseProgressȡģļĿ,ļڲڼλҳ
+ *
+ * @author yzhu
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompilerBenchmark {
+
+	private URL _templateUrl;// ģļ
+	private ComponentClassLoader _classLoader;// 
+	private ProgressElement _element;// ԤȽ̶
+
+	@Setup
+	public void setup() throws Exception {
+		BenchPackage bench = BenchPackage.acquire();
+		this._templateUrl = bench.getTemplateUrl();
+		this._classLoader = bench.getClassLoader();
+		this._element = Compiler.parseProgress(this._templateUrl);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchPackage.release();
+	}
+
+	/**
+	 * ģxml
+	 */
+	@Benchmark
+	public ProgressElement parseProgress() throws Exception {
+		return Compiler.parseProgress(this._templateUrl);
+	}
+
+	/**
+	 * ̶ģ,ģ幹һʵ
+	 */
+	@Benchmark
+	public Progress generateProgressTemplate() throws Exception {
+		ProgressTemplate template = Compiler.generateProgressTemplate(
+				this._element, this._classLoader);
+		Progress progress = new Progress(BenchPackage.PACKAGE_KEY,
+				template.getProgressKey(), null);
+		template.initProgress(progress, new Pin[]{new ObjectPin(1)});
+		return progress;
+	}
+}
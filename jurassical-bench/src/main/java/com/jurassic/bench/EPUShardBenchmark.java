@@ -0,0 +1,70 @@
+package com.jurassic.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import com.jurassic.bench.fixture.BenchPackage;
+import com.jurassic.core.bus.impl.EBus;
+import com.jurassic.core.notification.SynchronizedNotification;
+import com.jurassic.core.progress.Progress;
+import com.jurassic.core.progress.handler.pin.ObjectPin;
+import com.jurassic.core.progress.handler.pin.Pin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * EPUƬչԻ׼
+ * ߳ͬʱ,ȽϲͬEPUƬ̵
+ * ÿƬڶforkв
+ *
+ * @author yzhu
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class EPUShardBenchmark {
+	private static final long TIMEOUT = 10000L;// ȴ̽ĳʱʱ(ms)
+
+	@Param({"1", "2", "4", "8"})
+	public int shards;// EPUķƬ
+
+	private EBus _bus;
+
+	@Setup
+	public void setup() throws Exception {
+		this._bus = BenchPackage.acquire(this.shards).getEventBus();
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchPackage.release();
+	}
+
+	/**
+	 * ,ͬȴ̽
+	 */
+	@Benchmark
+	public Object run() throws Throwable {
+		Progress progress = this._bus.createProgress(BenchPackage.PACKAGE_KEY,
+				BenchPackage.PROGRESS_KEY, new Pin[]{new ObjectPin(1)}, null);
+		SynchronizedNotification notification = new SynchronizedNotification();
+		notification.setOwner(Thread.currentThread());
+		progress.setNotification(notification);
+		this._bus.fire(progress.getStartTask());
+		return notification.getResult(TIMEOUT);
+	}
+}
@@ -0,0 +1,109 @@
+package com.jurassic.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.jurassic.bench.component.PassBatchHandler;
+import com.jurassic.bench.component.PassHandler;
+import com.jurassic.bench.fixture.BenchPackage;
+import com.jurassic.bench.fixture.Completion;
+import com.jurassic.core.bus.Route;
+import com.jurassic.core.bus.impl.EBus;
+import com.jurassic.core.event.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * EBus.fireһ¼(SingleEventProcessor)¼(BatchEventProcessor)Ļ׼
+ * ֱͨ,õ,к͹Ŀ,gc profiler۲ÿ¼ķ
+ * ֱͨ¼(BenchConfig),¼ͨEBus.createEventӳз,staticsͳƺ,
+ * ȶ״̬gc.alloc.rate.normӳľÿ¼ķ
+ *
+ * @author yzhu
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusBenchmark {
+	private static final long TIMEOUT = 10000L;// ȴɵĳʱʱ(ms)
+	private static final int WINDOW = 256;// ˮģʽ;¼
+
+	@Param({PassHandler.KEY, PassBatchHandler.KEY})
+	public String handler;// ¼Ĵ
+
+	@Param({"1", "64"})
+	public int batch;// ÿη¼,1ʱʹfireAll
+
+	private EBus _bus;
+	private Route _route;// ·
+	private Completion _completion;// ɼ
+	private long _fired;// Ѿ¼
+	private final List<Event> _events = new ArrayList<>();
+
+	@Setup
+	public void setup() throws Exception {
+		this._bus = BenchPackage.acquire().getEventBus();
+		this._route = this._bus.route(BenchPackage.PACKAGE_KEY, this.handler);
+		this._completion = Completion.of(this.handler);
+		this._fired = this._completion.get();
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		// ȴ;¼
+		this._completion.await(this._fired, TIMEOUT);
+		BenchPackage.release();
+	}
+
+	/**
+	 * Ӵ¼з¼,֮ٳ¼
+	 */
+	private Event allocate() {
+		return this._bus.createEvent(BenchPackage.PACKAGE_KEY, this.handler, null);
+	}
+
+	private void publish() throws Exception {
+		if (this.batch == 1) {
+			this._bus.fire(this._route, this.allocate());
+		} else {
+			this._events.clear();
+			for (int i = 0; i < this.batch; i++) {
+				this._events.add(this.allocate());
+			}
+			this._bus.fireAll(this._route, this._events);
+		}
+		this._fired += this.batch;
+	}
+
+	/**
+	 * ¼ȴ,¼ӳ
+	 */
+	@Benchmark
+	public void roundTrip() throws Exception {
+		this.publish();
+		this._completion.await(this._fired, TIMEOUT);
+	}
+
+	/**
+	 * ̶ֹ;¼,
+	 */
+	@Benchmark
+	public void pipelined() throws Exception {
+		this.publish();
+		this._completion.await(this._fired - WINDOW, TIMEOUT);
+	}
+}
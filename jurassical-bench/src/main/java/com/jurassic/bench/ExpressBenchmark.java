@@ -0,0 +1,170 @@
+package com.jurassic.bench;
+
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.jurassic.bench.fixture.BenchPackage;
+import com.jurassic.core.compiler.element.ExpressElement;
+import com.jurassic.core.compiler.express.DataNode;
+import com.jurassic.core.compiler.express.ExpressCompiler;
+import com.jurassic.core.compiler.express.Node;
+import com.jurassic.core.compiler.express.Variable;
+import com.jurassic.core.progress.handler.pin.ObjectPin;
+import com.jurassic.core.progress.handler.pin.Pin;
+import com.jurassic.core.progress.handler.pin.express.DataType;
+import com.jurassic.core.progress.handler.pin.express.Express;
+import com.jurassic.core.progress.handler.pin.express.logic.And;
+import com.jurassic.core.progress.handler.pin.express.math.Add;
+import com.jurassic.core.progress.handler.pin.express.math.Mod;
+import com.jurassic.core.progress.handler.pin.express.math.Mul;
+import com.jurassic.core.progress.handler.pin.express.math.Sub;
+import com.jurassic.core.progress.handler.pin.express.relation.Great;
+import com.jurassic.core.progress.handler.pin.express.relation.NotEqual;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ExpressʽֵĻ׼
+ * ExpressỺ,ÿβװʽ,װĿܽ
+ * compiledͷĲʹExpressCompilerıʽ,еĴʽһ,
+ * Ϊtype͵̲
+ *
+ * @author yzhu
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpressBenchmark {
+
+	@Param({"int", "long", "decimal"})
+	public String type;// 
+
+	private Pin _a, _b, _c, _d, _e;// ܽ
+	private Constructor<?> _arithmetic, _condition;// ıʽ
+	private int _arithmeticType, _conditionType;// ıʽĽ
+	private Pin[] _arithmeticPins, _conditionPins;// ıʽĲ
+
+	@Setup
+	public void setup() throws Throwable {
+		this._a = this.number(17);
+		this._b = this.number(25);
+		this._c = this.number(3);
+		this._d = this.number(11);
+		this._e = this.number(7);
+		ExpressCompiler compiler = new ExpressCompiler(BenchPackage.acquire().getClassLoader());
+		Node arithmeticRoot = this.parse("(($a + $b) * $c - $d) % $e");
+		ExpressCompiler.Compiled arithmetic = this.compile(compiler, arithmeticRoot);
+		this._arithmetic = arithmetic.getExpressClass().getConstructor();
+		this._arithmeticType = arithmetic.getDataType();
+		this._arithmeticPins = this.operands(ExpressCompiler.getOperands(arithmeticRoot));
+		Node conditionRoot = this.parse("$a + $b > $c && $d != $e");
+		ExpressCompiler.Compiled condition = this.compile(compiler, conditionRoot);
+		this._condition = condition.getExpressClass().getConstructor();
+		this._conditionType = condition.getDataType();
+		this._conditionPins = this.operands(ExpressCompiler.getOperands(conditionRoot));
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchPackage.release();
+	}
+
+	private Node parse(String text) throws Throwable {
+		ExpressElement element = new ExpressElement();
+		element.setText(text);
+		element.parseExpress();
+		return element.getRoot();
+	}
+
+	/**
+	 * еĲtypeͱ
+	 */
+	private ExpressCompiler.Compiled compile(ExpressCompiler compiler, Node root) throws Throwable {
+		int[] operandTypes = new int[ExpressCompiler.getOperands(root).size()];
+		Arrays.fill(operandTypes, DataType.getType(this._a.getData()));
+		return compiler.compile(root, operandTypes);
+	}
+
+	/**
+	 * ձ$a$eҵӦĹܽ
+	 */
+	private Pin[] operands(List<Node> nodes) {
+		Pin[] all = {this._a, this._b, this._c, this._d, this._e};
+		Pin[] pins = new Pin[nodes.size()];
+		for (int i = 0; i < pins.length; i++) {
+			String name = ((Variable) ((DataNode) nodes.get(i)).getData()).getRefName();
+			pins[i] = all[name.charAt(0) - 'a'];
+		}
+		return pins;
+	}
+
+	private Pin number(int value) {
+		if ("long".equals(this.type))
+			return new ObjectPin((long) value);
+		else if ("decimal".equals(this.type))
+			return new ObjectPin(new BigDecimal(value));
+		return new ObjectPin(value);
+	}
+
+	private static Express express(Express express, Pin... pins) {
+		express.setPins(pins);
+		return express;
+	}
+
+	/**
+	 * ((a + b) * c - d) % e
+	 */
+	@Benchmark
+	public Object arithmetic() {
+		Express add = express(new Add(), this._a, this._b);
+		Express mul = express(new Mul(), add, this._c);
+		Express sub = express(new Sub(), mul, this._d);
+		return express(new Mod(), sub, this._e).getData();
+	}
+
+	/**
+	 * a + b > c && d != e
+	 */
+	@Benchmark
+	public Object condition() {
+		Express great = express(new Great(), express(new Add(), this._a, this._b), this._c);
+		Express notEqual = express(new NotEqual(), this._d, this._e);
+		return express(new And(), great, notEqual).getData();
+	}
+
+	/**
+	 * ((a + b) * c - d) % e,ıʽ
+	 */
+	@Benchmark
+	public Object compiledArithmetic() throws Exception {
+		Express express = (Express) this._arithmetic.newInstance();
+		express.setDataType(this._arithmeticType);
+		return express(express, this._arithmeticPins).getData();
+	}
+
+	/**
+	 * a + b > c && d != e,ıʽ
+	 */
+	@Benchmark
+	public Object compiledCondition() throws Exception {
+		Express express = (Express) this._condition.newInstance();
+		express.setDataType(this._conditionType);
+		return express(express, this._conditionPins).getData();
+	}
+}
@@ -0,0 +1,73 @@
+package com.jurassic.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import com.jurassic.bench.fixture.BenchPackage;
+import com.jurassic.core.bus.impl.EBus;
+import com.jurassic.core.notification.SynchronizedNotification;
+import com.jurassic.core.progress.Progress;
+import com.jurassic.core.progress.handler.pin.ObjectPin;
+import com.jurassic.core.progress.handler.pin.Pin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ̶˵ִеĻ׼
+ * ̾StartTask,EPU,4û(һηֲͻ)ԼEndTask,EndTask֪ͨ
+ *
+ * @author yzhu
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProgressBenchmark {
+	private static final long TIMEOUT = 10000L;// ȴ̽ĳʱʱ(ms)
+
+	private EBus _bus;
+
+	@Setup
+	public void setup() throws Exception {
+		this._bus = BenchPackage.acquire().getEventBus();
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchPackage.release();
+	}
+
+	/**
+	 * ,ͬȴ̽
+	 */
+	@Benchmark
+	public Object run() throws Throwable {
+		Progress progress = this._bus.createProgress(BenchPackage.PACKAGE_KEY,
+				BenchPackage.PROGRESS_KEY, new Pin[]{new ObjectPin(1)}, null);
+		SynchronizedNotification notification = new SynchronizedNotification();
+		notification.setOwner(Thread.currentThread());
+		progress.setNotification(notification);
+		this._bus.fire(progress.getStartTask());
+		return notification.getResult(TIMEOUT);
+	}
+
+	/**
+	 * ͨfuture̲ȴ̽
+	 */
+	@Benchmark
+	public Object runAsync() throws Exception {
+		return this._bus.startProgress(BenchPackage.PACKAGE_KEY,
+				BenchPackage.PROGRESS_KEY, new Pin[]{new ObjectPin(1)}, TIMEOUT)
+				.get(TIMEOUT, TimeUnit.MILLISECONDS);
+	}
+}
@@ -0,0 +1,27 @@
+package com.jurassic.bench.component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.jurassic.core.annotation.Bean;
+import com.jurassic.core.annotation.Configuration;
+import com.jurassic.core.handler.HandlerConfig;
+
+/**
+ * ׼Ĵ
+ * ֱͨ¼,¼ӳз,staticsͳƺ,ȶ״̬ÿ¼
+ *
+ * @author yzhu
+ */
+@Configuration
+public class BenchConfig {
+	public static final int EVENT_POOL_SIZE = 4096;// ¼صĴС,Сˮģʽµ;¼
+
+	@Bean
+	public Map<String, HandlerConfig> configOfHandlers() {
+		Map<String, HandlerConfig> configs = new HashMap<>();
+		configs.put(PassHandler.KEY, new HandlerConfig(0, 0).eventPool(EVENT_POOL_SIZE));
+		configs.put(PassBatchHandler.KEY, new HandlerConfig(0, 0).eventPool(EVENT_POOL_SIZE));
+		return configs;
+	}
+}
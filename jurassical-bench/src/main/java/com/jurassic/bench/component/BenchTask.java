@@ -0,0 +1,50 @@
+package com.jurassic.bench.component;
+
+import com.jurassic.core.progress.Progress;
+import com.jurassic.core.progress.handler.pin.ObjectPin;
+import com.jurassic.core.progress.handler.pin.Pin;
+import com.jurassic.core.progress.task.Task;
+
+/**
+ * ׼е,1
+ *
+ * @author yzhu
+ */
+public class BenchTask extends Task {
+	public static final String KEY = "bench_task";
+
+	private Pin _input;// ܽ
+	private final ObjectPin _output = new ObjectPin();// ܽ
+
+	public BenchTask(Progress progress, String desc) {
+		super(progress, desc);
+	}
+
+	public boolean isAuto() {
+		return false;
+	}
+
+	public void input(Pin... pins) {
+		this._input = pins.length > 0 ? pins[0] : null;
+	}
+
+	public Pin output(int pinIdx) {
+		return this._output;
+	}
+
+	public Pin getInput() {
+		return this._input;
+	}
+
+	public void setOutput(Object data) {
+		this._output.setData(data);
+	}
+
+	public String getPackageKey() {
+		return this._progress.getPackageKey();
+	}
+
+	public String getEventKey() {
+		return KEY;
+	}
+}
@@ -0,0 +1,22 @@
+package com.jurassic.bench.component;
+
+import com.jurassic.core.annotation.Component;
+import com.jurassic.core.progress.handler.TaskHandler;
+
+/**
+ * ׼Ĵ
+ *
+ * @author yzhu
+ */
+@Component
+public class BenchTaskHandler extends TaskHandler<BenchTask> {
+
+	public String getHandlerKey() {
+		return BenchTask.KEY;
+	}
+
+	public void handle(BenchTask task) {
+		Object input = task.getInput() != null ? task.getInput().getData() : null;
+		task.setOutput(input instanceof Integer ? (Integer) input + 1 : 0);
+	}
+}
@@ -0,0 +1,36 @@
+package com.jurassic.bench.component;
+
+import java.util.List;
+
+import com.jurassic.bench.fixture.Completion;
+import com.jurassic.core.annotation.Component;
+import com.jurassic.core.dataflow.handler.BatchEventHandler;
+import com.jurassic.core.dataflow.handler.Emitter;
+
+/**
+ * ֱͨ¼,κδҲ¼
+ *
+ * @author yzhu
+ */
+@Component
+public class PassBatchHandler extends BatchEventHandler<PassEvent> {
+	public static final String KEY = "pass_batch";
+
+	private final Completion _completion = Completion.of(KEY);// ɼ
+
+	public String getHandlerKey() {
+		return KEY;
+	}
+
+	public void handle(List<PassEvent> events, Emitter emitter) {
+		this._completion.done(events.size());
+	}
+
+	public PassEvent createEvent(Object[] params) {
+		return this.allocateEvent();
+	}
+
+	protected PassEvent newEvent() {
+		return new PassEvent(KEY);
+	}
+}
@@ -0,0 +1,26 @@
+package com.jurassic.bench.component;
+
+import com.jurassic.bench.fixture.BenchPackage;
+import com.jurassic.core.event.Event;
+
+/**
+ * ׼ʹõ¼,Яκҵ
+ *
+ * @author yzhu
+ */
+public class PassEvent extends Event {
+
+	private final String _eventKey;// ¼Ĵ
+
+	public PassEvent(String eventKey) {
+		this._eventKey = eventKey;
+	}
+
+	public String getPackageKey() {
+		return BenchPackage.PACKAGE_KEY;
+	}
+
+	public String getEventKey() {
+		return this._eventKey;
+	}
+}
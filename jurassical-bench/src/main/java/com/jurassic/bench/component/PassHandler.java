@@ -0,0 +1,35 @@
+package com.jurassic.bench.component;
+
+import com.jurassic.bench.fixture.Completion;
+import com.jurassic.core.annotation.Component;
+import com.jurassic.core.dataflow.handler.Emitter;
+import com.jurassic.core.dataflow.handler.EventHandler;
+
+/**
+ * ֱͨĵһ¼,κδҲ¼
+ * ߺʹĿ
+ *
+ * @author yzhu
+ */
+@Component
+public class PassHandler extends EventHandler<PassEvent> {
+	public static final String KEY = "pass";
+
+	private final Completion _completion = Completion.of(KEY);// ɼ
+
+	public String getHandlerKey() {
+		return KEY;
+	}
+
+	public void handle(PassEvent event, Emitter emitter) {
+		this._completion.done(1);
+	}
+
+	public PassEvent createEvent(Object[] params) {
+		return this.allocateEvent();
+	}
+
+	protected PassEvent newEvent() {
+		return new PassEvent(KEY);
+	}
+}
@@ -0,0 +1,180 @@
+package com.jurassic.bench.fixture;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import com.jurassic.bench.component.BenchConfig;
+import com.jurassic.bench.component.BenchTask;
+import com.jurassic.bench.component.BenchTaskHandler;
+import com.jurassic.bench.component.PassBatchHandler;
+import com.jurassic.bench.component.PassEvent;
+import com.jurassic.bench.component.PassHandler;
+import com.jurassic.core.bus.impl.EBus;
+import com.jurassic.core.classloader.ComponentClassLoader;
+import com.jurassic.core.classloader.JurassicRootClassLoader;
+import com.jurassic.core.deploy.DeployContext;
+import com.jurassic.core.handler.DeployProperties;
+
+/**
+ * ׼ʹõ
+ * ʱĿ¼deploy.conf,ģjar,ߺ
+ * clientģʽ,׼Դ빲ͬһClass
+ * ͬһjvmеĶ׼Թһ,һʹͷŵʱر
+ *
+ * @author yzhu
+ */
+public class BenchPackage {
+	public static final String PACKAGE_KEY = "bench";// key
+	public static final String PROGRESS_KEY = "bench";// ģkey
+	public static final String TEMPLATE_RESOURCE = "bench/bench-progress.xml";// ģԴ
+
+	// е
+	private static final Class<?>[] COMPONENTS = {
+			PassEvent.class, PassHandler.class, PassBatchHandler.class,
+			BenchConfig.class, BenchTask.class, BenchTaskHandler.class
+	};
+
+	private static BenchPackage inst;// ǰʹõ
+	private static int refs = 0;// ʹ
+
+	private final File _root;// ĸĿ¼
+	private final EBus _bus;// 
+	private final int _epuShards;// EPUķƬ
+	private DeployContext _context;// Ĳ
+
+	private BenchPackage(int epuShards) throws IOException {
+		this._epuShards = epuShards;
+		this._root = Files.createTempDirectory("jurassic-bench").toFile();
+		this._bus = new EBus(new JurassicRootClassLoader(
+				false, new URL[0], BenchPackage.class.getClassLoader()));
+	}
+
+	/**
+	 * ,һʹ߸߲
+	 */
+	public static BenchPackage acquire() throws Exception {
+		return acquire(1);
+	}
+
+	/**
+	 * ָEPUƬ
+	 * ͬһjvmֻʹһַƬ,jmhÿڶfork
+	 */
+	public static synchronized BenchPackage acquire(int epuShards) throws Exception {
+		if (inst == null) {
+			BenchPackage bench = new BenchPackage(epuShards);
+			bench.deploy();
+			inst = bench;
+		} else if (inst._epuShards != epuShards) {
+			throw new IllegalStateException("bench package has deployed with "
+					+ inst._epuShards + " epu shards");
+		}
+		refs++;
+		return inst;
+	}
+
+	/**
+	 * ͷ,һʹ߸ر
+	 */
+	public static synchronized void release() {
+		if (inst == null || --refs > 0)
+			return;
+		inst.shutdown();
+		inst = null;
+	}
+
+	public EBus getEventBus() {
+		return this._bus;
+	}
+
+	public ComponentClassLoader getClassLoader() {
+		return this._context.getClassLoader();
+	}
+
+	/**
+	 * ģļurl
+	 */
+	public URL getTemplateUrl() throws IOException {
+		return new File(this._root, "templates/bench-progress.xml").toURI().toURL();
+	}
+
+	private void deploy() throws Exception {
+		File templates = new File(this._root, "templates");
+		if (!templates.mkdirs())
+			throw new IOException("create " + templates + " fail");
+		copy(TEMPLATE_RESOURCE, new File(templates, "bench-progress.xml"));
+		// ģļĿ¼
+		try (OutputStream out = new FileOutputStream(
+				new File(this._root, DeployProperties.CONF_NAME))) {
+			String conf = "template.path=file:" + templates.getAbsolutePath() + "\n"
+					+ "epu.shards=" + this._epuShards + "\n";
+			out.write(conf.getBytes("UTF-8"));
+		}
+		File jar = new File(this._root, "bench-component.jar");
+		this.writeComponentJar(jar);
+
+		if (!this._bus.start())
+			throw new IllegalStateException("start event bus fail");
+		this._context = new DeployContext(PACKAGE_KEY,
+				this._root.getAbsolutePath(), new URL[]{jar.toURI().toURL()});
+		if (!this._bus.deploy(this._context)) {
+			this._bus.shutdown();
+			throw new IllegalStateException("deploy " + PACKAGE_KEY + " fail");
+		}
+	}
+
+	/**
+	 * дjar,ͨɨjar@Component
+	 */
+	private void writeComponentJar(File jar) throws IOException {
+		try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+			for (Class<?> clz : COMPONENTS) {
+				String name = clz.getName().replace('.', '/') + ".class";
+				out.putNextEntry(new JarEntry(name));
+				try (InputStream in = BenchPackage.class.getClassLoader()
+						.getResourceAsStream(name)) {
+					transfer(in, out);
+				}
+				out.closeEntry();
+			}
+		}
+	}
+
+	private static void copy(String resource, File target) throws IOException {
+		try (InputStream in = BenchPackage.class.getClassLoader().getResourceAsStream(resource);
+			 OutputStream out = new FileOutputStream(target)) {
+			transfer(in, out);
+		}
+	}
+
+	private static void transfer(InputStream in, OutputStream out) throws IOException {
+		if (in == null)
+			throw new IOException("resource not found");
+		byte[] buf = new byte[4096];
+		int len;
+		while ((len = in.read(buf)) != -1) {
+			out.write(buf, 0, len);
+		}
+	}
+
+	private void shutdown() {
+		this._bus.shutdown();
+		delete(this._root);
+	}
+
+	private static void delete(File file) {
+		File[] children = file.listFiles();
+		if (children != null) {
+			for (File child : children)
+				delete(child);
+		}
+		file.delete();
+	}
+}
@@ -0,0 +1,59 @@
+package com.jurassic.bench.fixture;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ¼ļ
+ * ׼̷߳¼ȴĿֵ,Դ˺¼ӷɵʱ
+ *
+ * @author yzhu
+ */
+public class Completion {
+
+	private static final ConcurrentMap<String, Completion> completions
+			= new ConcurrentHashMap<>();
+	private static final int SPIN_TIMES = 1 << 10;// ócpu֮ǰ
+
+	private final AtomicLong _done = new AtomicLong();// Ѿɵ¼
+
+	/**
+	 * ôӦļ
+	 */
+	public static Completion of(String handlerKey) {
+		Completion completion = completions.get(handlerKey);
+		if (completion == null) {
+			Completion created = new Completion();
+			completion = completions.putIfAbsent(handlerKey, created);
+			if (completion == null)
+				completion = created;
+		}
+		return completion;
+	}
+
+	public void done(int num) {
+		this._done.addAndGet(num);
+	}
+
+	public long get() {
+		return this._done.get();
+	}
+
+	/**
+	 * ȴɵ¼target
+	 */
+	public void await(long target, long timeoutMillis) throws TimeoutException {
+		long deadline = System.nanoTime() + timeoutMillis * 1000000L;
+		int spin = 0;
+		while (this._done.get() < target) {
+			if (++spin < SPIN_TIMES)
+				continue;
+			spin = 0;
+			if (System.nanoTime() > deadline)
+				throw new TimeoutException("wait for " + target + " timeout");
+			Thread.yield();
+		}
+	}
+}
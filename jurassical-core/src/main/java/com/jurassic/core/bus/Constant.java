@@ -10,12 +10,40 @@ public class Constant {
 
 	// ̵߳Ĭ߳
 	public static final int DRPT_WORKER_SIZE = 4;
-	// ̵߳߳
-	public static final int DRPT_MAX_WORKER_SIZE = 16;
+	// ÿcpu߳ʱУ
+	public static final int DRPT_MAX_WORKER_PER_CORE = 8;
 	// ÿĻĬϴСС=2powerη
 	public static final int DRPT_DATA_SIZE_POWER = 8;
-	// ÿĻС
-	public static final int DRPT_MAX_DATA_SIZE_POWER = 10;
+	// ÿĻСʱУ
+	public static final int DRPT_MAX_DATA_SIZE_POWER = 24;
+	// СΪֵʾݹ۲⵽;¼ֵԶ
+	public static final int DRPT_AUTO_SIZE_POWER = -1;
+	// ÿλռõڴ(byte)
+	public static final int DRPT_SLOT_BYTES = 64;
+	// һдĻռڴ1/ratio
+	public static final int DRPT_MAX_RING_MEMORY_RATIO = 4;
+	// еĬϴСдС=2powerη
+	public static final int DRPT_OVERFLOW_SIZE_POWER = 12;
+	// еС
+	public static final int DRPT_MAX_OVERFLOW_SIZE_POWER = 16;
+	// ʱߵĬϳʱʱ(ms)
+	public static final long DRPT_OVERFLOW_TIMEOUT = 1000L;
+	// ߳ģʽ´Ĭϵ󲢷
+	public static final int DRPT_VIRTUAL_CONCURRENCY = 256;
+	// ¼ĬϻĿ¼
+	public static final int DRPT_EVENT_POOL_SIZE = 1024;
+	// ģʽһִ֮еĺ
+	public static final int DRPT_CONTINUATION_DEPTH = 16;
+	// ģʽִеĬʱԤ(us)
+	public static final long DRPT_CONTINUATION_BUDGET = 200L;
+	// ʱÿһʱ(ms)
+	public static final long DRPT_TIMER_TICK = 10L;
+	// ʱֵĲ
+	public static final int DRPT_TIMER_WHEEL_SIZE = 512;
+	// ¼ʱÿһʱ(ms)
+	public static final long DRPT_SCHEDULE_TICK = 1L;
+	// ¼ʱֵĲ
+	public static final int DRPT_SCHEDULE_WHEEL_SIZE = 1024;
 	// ĬϵEPU
 	public static final int DEFAULT_EPU_POWER = 8;
 }
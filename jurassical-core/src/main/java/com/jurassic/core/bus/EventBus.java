@@ -6,6 +6,8 @@ import com.jurassic.core.bus.error.EventNotFiredErr;
 import com.jurassic.core.deploy.DeployContext;
 import com.jurassic.core.event.Event;
 
+import java.util.List;
+
 /**
  * ¼,JurassicϵͳĺĲ
  * תп
@@ -24,12 +26,51 @@ public interface EventBus {
 	void fire(String packageKey, String handler, Event event) throws EventBusNotStartedErr,
 			ComponentNotFoundErr, EventNotFiredErr;
 
+	/**
+	 * ¼͸·ɶӦĴ
+	 * ·Ԥͨroute,ÿfireַƥ
+	 */
+	void fire(Route route, Event event) throws EventBusNotStartedErr,
+			ComponentNotFoundErr, EventNotFiredErr;
+
+	/**
+	 * ¼͸¼keyӦĴ
+	 * ¼һfireʱ·ɲ¼
+	 */
+	void fire(Event event) throws EventBusNotStartedErr,
+			ComponentNotFoundErr, EventNotFiredErr;
+
+	/**
+	 * һ¼͸·ɶӦĴ
+	 * ڴһԷ¼
+	 */
+	void fireAll(Route route, List<? extends Event> events) throws EventBusNotStartedErr,
+			ComponentNotFoundErr, EventNotFiredErr;
+
+	/**
+	 * һ¼͸keyӦĴ
+	 * ڵ·ͬ¼ϲΪһ
+	 */
+	void fireAll(List<? extends Event> events) throws EventBusNotStartedErr,
+			ComponentNotFoundErr, EventNotFiredErr;
+
+	/**
+	 * (packageKey, handler)Ϊ·ɾ
+	 * ͬһԪʼշͬһ·
+	 */
+	Route route(String packageKey, String handler);
+
 	/**
 	 * ӳٵ¼
 	 * eventָĵô¼ִ
 	 */
 	void schedule(Event event);
 
+	/**
+	 * ӳdelay(ms)֮󴥷¼ִ
+	 */
+	void schedule(Event event, long delay);
+
 	/**
 	 * 
 	 */
@@ -0,0 +1,44 @@
+package com.jurassic.core.bus;
+
+/**
+ * ¼·ɾ
+ * ߽(packageKey, handlerKey)ԪһԽΨһ·
+ * ·ɵidΪ߷ַе±,¼ķַֻҪһѰַ
+ * ·߸,ͬĶԪʼնӦͬһ·ʵ
+ *
+ * @author yzhu
+ */
+public final class Route {
+
+	private final int _id;// ·ɾ,ַе±
+	private final String _packageKey;// Ŀ괦ڵİ,մʾָ
+	private final String _handlerKey;// Ŀ괦key
+	private final boolean _broadcast;// Ƿǹ㲥·(ûָͨ)
+
+	public Route(int id, String packageKey, String handlerKey, boolean broadcast) {
+		this._id = id;
+		this._packageKey = packageKey;
+		this._handlerKey = handlerKey;
+		this._broadcast = broadcast;
+	}
+
+	public int getId() {
+		return this._id;
+	}
+
+	public String getPackageKey() {
+		return this._packageKey;
+	}
+
+	public String getHandlerKey() {
+		return this._handlerKey;
+	}
+
+	public boolean isBroadcast() {
+		return this._broadcast;
+	}
+
+	public String toString() {
+		return "route[" + this._id + "," + this._packageKey + "," + this._handlerKey + "]";
+	}
+}
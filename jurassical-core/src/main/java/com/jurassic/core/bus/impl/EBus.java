@@ -2,6 +2,7 @@ package com.jurassic.core.bus.impl;
 
 import com.jurassic.core.bus.Constant;
 import com.jurassic.core.bus.EventBus;
+import com.jurassic.core.bus.Route;
 import com.jurassic.core.bus.error.ComponentNotFoundErr;
 import com.jurassic.core.bus.error.EventBusNotStartedErr;
 import com.jurassic.core.bus.error.EventNotFiredErr;
@@ -12,6 +13,7 @@ import com.jurassic.core.dataflow.handler.impl.StaticsHandler;
 import com.jurassic.core.dataflow.worker.BatchEventWorker;
 import com.jurassic.core.dataflow.worker.SingleEventWorker;
 import com.jurassic.core.event.ReflectionEvent;
+import com.jurassic.core.notification.FutureNotification;
 import com.jurassic.core.processor.WorkHandler;
 import com.jurassic.core.progress.handler.impl.SubProgressInvokeHandler;
 import com.jurassic.core.progress.handler.pin.Pin;
@@ -23,9 +25,9 @@ import com.jurassic.core.processor.EventProcessor;
 import com.jurassic.core.processor.impl.BatchEventProcessor;
 import com.jurassic.core.processor.impl.SingleEventProcessor;
 import com.jurassic.core.deploy.DeployContext;
+import com.jurassic.core.deploy.InFlightTbl;
 import com.jurassic.core.progress.handler.impl.EndHandler;
 import com.jurassic.core.progress.handler.impl.StartHandler;
-import com.jurassic.core.event.FireDelayEvent;
 import com.jurassic.core.event.Event;
 import com.jurassic.core.global.GlobalInstRegisterTable;
 import com.jurassic.core.progress.Progress;
@@ -33,13 +35,16 @@ import com.jurassic.core.progress.manager.ProgressManager;
 import com.jurassic.core.progress.worker.SingleTaskWorker;
 import com.jurassic.core.resource.ResourceFactory;
 import com.jurassic.core.resource.ResourceFactoryTbl;
+import com.jurassic.core.time.TimingWheel;
 import com.jurassic.core.util.CopyOnWriteMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * EventBusϵͳĬʵ
@@ -71,7 +76,19 @@ public class EBus implements EventBus, ResourceFactoryTbl, ProgressManager {
 	private ExecutorService _daemon;
 	// õԴ
 	private Map<String, ResourceFactory<?>> _resourceFactoryTbl;
-	private Timer _timer;// ʱ
+	// ¼ȵʱ,ͬһеڵ¼tick
+	private final TimingWheel _scheduler = new TimingWheel("scheduler",
+			Constant.DRPT_SCHEDULE_TICK, Constant.DRPT_SCHEDULE_WHEEL_SIZE, this::fireScheduled);
+	// tickеڵĵ¼,ֻڵʱ߳Ϸ
+	private final List<Event> _scheduledBuf = new ArrayList<>();
+	// ʱ,ֹ̽ʱҴ󲿷ֻᱻȡĶʱ
+	private final TimingWheel _timingWheel = new TimingWheel(
+			"timing-wheel", Constant.DRPT_TIMER_TICK, Constant.DRPT_TIMER_WHEEL_SIZE);
+	// ;¼ֵ,ԽĶβ
+	private final InFlightTbl _inFlightTbl = new InFlightTbl();
+	// ·ɷַ,ֻ,_routeLockؽ
+	private volatile RouteTable _routeTable = RouteTable.EMPTY;
+	private final Object _routeLock = new Object();
 
 	public EBus(JurassicRootClassLoader clzLoader) {
 		this._rootClassLoader = clzLoader;
@@ -79,77 +96,268 @@ public class EBus implements EventBus, ResourceFactoryTbl, ProgressManager {
 		GlobalInstRegisterTable.register(EventBus.GLOBAL_KEY, this);
 		GlobalInstRegisterTable.register(ProgressManager.GLOBAL_KEY, this);
 		GlobalInstRegisterTable.register(ResourceFactoryTbl.GLOBAL_KEY, this);
+		GlobalInstRegisterTable.register(InFlightTbl.GLOBAL_KEY, this._inFlightTbl);
+		GlobalInstRegisterTable.register(TimingWheel.GLOBAL_KEY, this._timingWheel);
 	}
 
 	public void schedule(Event event){
 		// event.getScheduleSpan()󴥷¼
-		this._timer.schedule(new TimerTask() {
-			public void run() {
-				event.reset();
-				try {
-					fire(event.getPackageKey(), event.getEventKey(), event);
-				} catch (Throwable ignored) {}
-			}
-		}, event.getScheduleSpan());
+		this.schedule(event, event.getScheduleSpan());
+	}
+
+	public void schedule(Event event, long delay) {
+		this._scheduler.schedule(() -> {
+			event.reset();
+			this._scheduledBuf.add(event);
+		}, delay, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * tickеڵĵ¼
+	 */
+	private void fireScheduled() {
+		if (this._scheduledBuf.isEmpty())
+			return;
+		try {
+			this.fireAll(this._scheduledBuf);
+		} catch (Throwable ex) {
+			logger.warn("scheduled events not fire: " + ex.getMessage());
+		} finally {
+			this._scheduledBuf.clear();
+		}
+	}
+
+	/**
+	 * ¼ȵʱ,ڲ鿴,ȴ͵ӳٵָ
+	 */
+	public TimingWheel getScheduler() {
+		return this._scheduler;
 	}
 
 	public void fire(String packageKey, String handlerKey, Event event) throws EventBusNotStartedErr,
 			ComponentNotFoundErr, EventNotFiredErr {
+		this.fire(this.route(packageKey, handlerKey), event);
+	}
+
+	public void fire(Event event) throws EventBusNotStartedErr,
+			ComponentNotFoundErr, EventNotFiredErr {
+		// һfireʱ¼·ɲ
+		this.fire(this.routeOf(event), event);
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public void fire(Route route, Event event) throws EventBusNotStartedErr,
+			ComponentNotFoundErr, EventNotFiredErr {
 		if (!this._started) {
-			// ߹رյʱ򲻽κ¼Ĵ
+			// ߹رյʱ򲻽κ¼Ĵ
 			logger.error("event bus not started");
 			throw new EventBusNotStartedErr();
 		}
-		// *start,*end,statics,reflect,sub_progress_invokeض¼
-		// ҶӦprocessorд
-		if (handlerKey.endsWith(StartTask.START_SUFFIX)) {
-			if (!this._starter.doEvent((StartTask)event)) {
-				logger.error("event " + event + " not deal");
-				throw new EventNotFiredErr("event not fire");
+		// ֱӸ·ɾҷַ
+		EventProcessor[] targets = this._routeTable.getTargets(route);
+		if (route.isBroadcast()) {
+			// δָpackageаĹ㲥
+			// ػ¼ÿһ
+			this.retainForBroadcast(event, targets.length);
+			for (EventProcessor processor : targets) {
+				try {
+					processor.doEvent(event);
+				} catch (Throwable ex) {
+					logger.error(ex.getMessage(), ex);
+				}
 			}
 			return;
-		} else if (handlerKey.endsWith(EndTask.END_SUFFIX)) {
-			if (!this._ender.doEvent((EndTask)event)) {
-				logger.error("event " + event + " not deal");
-				throw new EventNotFiredErr("event not fire");
-			}
+		}
+		if (targets.length == 0 || !targets[0].doEvent(event)) {
+			logger.error("event " + event + " not deal");
+			throw new EventNotFiredErr("event not fire");
+		}
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public void fireAll(Route route, List<? extends Event> events) throws EventBusNotStartedErr,
+			ComponentNotFoundErr, EventNotFiredErr {
+		if (!this._started) {
+			// ߹رյʱ򲻽κ¼Ĵ
+			logger.error("event bus not started");
+			throw new EventBusNotStartedErr();
+		}
+		if (events.isEmpty())
 			return;
-		} else if (handlerKey.equals(EBus.COMPONENT_KEY_STATICS)) {
-			if (!this._statics.doEvent(event)) {
-				logger.error("event " + event + " not deal");
-				throw new EventNotFiredErr("event not fire");
+		EventProcessor[] targets = this._routeTable.getTargets(route);
+		if (route.isBroadcast()) {
+			// δָpackageаĹ㲥
+			// ػ¼ÿһ
+			for (Event event : events) {
+				this.retainForBroadcast(event, targets.length);
 			}
-			return;
-		} else if (handlerKey.equals(EBus.COMPONENT_KEY_REFLECTOR)) {
-			if (!this._reflector.doEvent((ReflectionEvent) event)) {
-				logger.error("event " + event + " not deal");
-				throw new EventNotFiredErr("event not fire");
+			for (EventProcessor processor : targets) {
+				try {
+					processor.doEvents(events);
+				} catch (Throwable ex) {
+					logger.error(ex.getMessage(), ex);
+				}
 			}
 			return;
-		} else if (handlerKey.equals(SubProgressInvokeTask.KEY)) {
-			if (!this._subProgressInvoker.doEvent((SubProgressInvokeTask) event)) {
-				logger.error("event " + event + " not deal");
-				throw new EventNotFiredErr("event not fire");
-			}
 		}
-		if (packageKey != null && !"".equals(packageKey)) {
-			// ָpackage¼еԵ¼
-			DeployContext context = this._contexts.get(packageKey);
-			if (context == null) {
-				logger.error("event " + event + " not deal");
-				throw new EventNotFiredErr("event not fire");
+		if (targets.length == 0 || !targets[0].doEvents(events)) {
+			logger.error(events.size() + " events of " + route + " not deal");
+			throw new EventNotFiredErr("event not fire");
+		}
+	}
+
+	public void fireAll(List<? extends Event> events) throws EventBusNotStartedErr,
+			ComponentNotFoundErr, EventNotFiredErr {
+		int size = events.size();
+		int notFired = 0;
+		int from = 0;
+		while (from < size) {
+			Route route = this.routeOf(events.get(from));
+			// ҳڵ·ͬһ¼
+			int to = from + 1;
+			while (to < size && this.routeOf(events.get(to)) == route) {
+				to++;
 			}
-			if (!context.doEvent(handlerKey, event)) {
-				logger.error("event " + event + " not deal");
-				throw new EventNotFiredErr("event not fire");
+			try {
+				this.fireAll(route, events.subList(from, to));
+			} catch (EventNotFiredErr ex) {
+				// ¼,ͳһ
+				notFired += to - from;
 			}
-		} else {
-			// δָpackageаĹ㲥
-			Map<String, DeployContext> map = this._contexts.toMap();
-			for (String key : map.keySet()) {
-				DeployContext context = map.get(key);
-				context.doEvent(handlerKey, event);
+			from = to;
+		}
+		if (notFired > 0) {
+			throw new EventNotFiredErr(notFired + " events not fire");
+		}
+	}
+
+	/**
+	 * 㲥¼սյĴü
+	 * ûдյ¼ֱͷ
+	 */
+	private void retainForBroadcast(Event event, int numOfTargets) {
+		if (numOfTargets == 0) {
+			event.release();
+		} else if (numOfTargets > 1) {
+			event.retain(numOfTargets - 1);
+		}
+	}
+
+	/**
+	 * ¼·,һλȡʱ¼
+	 */
+	private Route routeOf(Event event) {
+		Route route = event.getRoute();
+		if (route == null) {
+			route = this.route(event.getPackageKey(), event.getEventKey());
+			event.setRoute(route);
+		}
+		return route;
+	}
+
+	public Route route(String packageKey, String handlerKey) {
+		String key = packageKey != null ? packageKey : "";
+		Route route = this._routeTable.find(key, handlerKey);
+		if (route != null)
+			return route;
+		// µĶԪ,·ɲؽַ
+		synchronized (this._routeLock) {
+			route = this._routeTable.find(key, handlerKey);
+			if (route == null) {
+				List<Route> routes = this._routeTable.copyRoutes();
+				route = new Route(routes.size(), key, handlerKey,
+						this.isBroadcast(key, handlerKey));
+				routes.add(route);
+				this._routeTable = this.buildRouteTable(routes);
 			}
+			return route;
+		}
+	}
+
+	/**
+	 * ж·ǷΪ㲥·
+	 * ûָpackageҲڲ·Ҫ㲥еİ
+	 */
+	private boolean isBroadcast(String packageKey, String handlerKey) {
+		return "".equals(packageKey) && !this.isInternal(handlerKey);
+	}
+
+	/**
+	 * жǷ*start,*end,statics,reflect,sub_progress_invokeضڲ
+	 */
+	private boolean isInternal(String handlerKey) {
+		return handlerKey.endsWith(StartTask.START_SUFFIX)
+				|| handlerKey.endsWith(EndTask.END_SUFFIX)
+				|| handlerKey.equals(EBus.COMPONENT_KEY_STATICS)
+				|| handlerKey.equals(EBus.COMPONENT_KEY_REFLECTOR)
+				|| handlerKey.equals(SubProgressInvokeTask.KEY);
+	}
+
+	/**
+	 * ڲ,ûʱΪnull
+	 */
+	private EventProcessor<?> resolveInternal(String handlerKey) {
+		if (handlerKey.endsWith(StartTask.START_SUFFIX)) {
+			return this._starter;
+		} else if (handlerKey.endsWith(EndTask.END_SUFFIX)) {
+			return this._ender;
+		} else if (handlerKey.equals(EBus.COMPONENT_KEY_STATICS)) {
+			return this._statics;
+		} else if (handlerKey.equals(EBus.COMPONENT_KEY_REFLECTOR)) {
+			return this._reflector;
+		} else if (handlerKey.equals(SubProgressInvokeTask.KEY)) {
+			return this._subProgressInvoker;
+		}
+		return null;
+	}
+
+	/**
+	 * ·ɶӦĿ괦
+	 */
+	private EventProcessor<?>[] resolve(Route route) {
+		String handlerKey = route.getHandlerKey();
+		if (this.isInternal(handlerKey)) {
+			// ڲڰеĴ
+			EventProcessor<?> processor = this.resolveInternal(handlerKey);
+			return processor != null ?
+					new EventProcessor<?>[]{processor} : RouteTable.NO_TARGET;
+		}
+		if (!route.isBroadcast()) {
+			// ָpackage¼
+			DeployContext context = this._contexts.get(route.getPackageKey());
+			EventProcessor<?> processor = context != null ?
+					context.getProcessor(handlerKey) : null;
+			return processor != null ?
+					new EventProcessor<?>[]{processor} : RouteTable.NO_TARGET;
+		}
+		// 㲥аеͬ
+		List<EventProcessor<?>> processors = new ArrayList<>();
+		for (DeployContext context : this._contexts.toMap().values()) {
+			EventProcessor<?> processor = context.getProcessor(handlerKey);
+			if (processor != null)
+				processors.add(processor);
+		}
+		return processors.toArray(new EventProcessor<?>[0]);
+	}
+
+	/**
+	 * ݵǰİڲַ
+	 */
+	private RouteTable buildRouteTable(List<Route> routes) {
+		EventProcessor<?>[][] targets = new EventProcessor<?>[routes.size()][];
+		for (Route route : routes) {
+			targets[route.getId()] = this.resolve(route);
+		}
+		return new RouteTable(routes, targets);
+	}
+
+	/**
+	 * ؽַ,ڰĲжԼ͹رյʱִ
+	 * µķַɺһ滻,fireĹʼտһµķַ
+	 */
+	private void rebuildRouteTable() {
+		synchronized (this._routeLock) {
+			this._routeTable = this.buildRouteTable(this._routeTable.copyRoutes());
 		}
 	}
 
@@ -182,7 +390,8 @@ public class EBus implements EventBus, ResourceFactoryTbl, ProgressManager {
 
 		// رʹõڲ߳
 		this._daemon.shutdown();
-		this._timer.cancel();
+		this._scheduler.stop();
+		this._timingWheel.stop();
 
 		logger.info("event bus shutdown");
 	}
@@ -268,41 +477,24 @@ public class EBus implements EventBus, ResourceFactoryTbl, ProgressManager {
 		this.addStatics();
 		this.addReflector();
 		this.addSubProgressInvoker();
+		// ڲؽַ
+		this.rebuildRouteTable();
 		this._started = true;
-		// timer
-		this._timer = new Timer("timer");
-		// 1mstimer¼͸еprocessor
-		this._timer.schedule(this._delayTask, 1000, 1);
+		// ʱ,ֻ¼ӳٵ
+		// ӳٶɸԵĹͷŴпռſ
+		this._scheduler.start();
+		this._timingWheel.start();
 
 		return true;
 	}
-	private TimerTask _delayTask = new TimerTask() {
-		public void run() {
-			try {
-				// еĲDelayFireEvent
-				// øϵprocessorϵӳ¼
-				Map<String, DeployContext> map = _contexts.toMap();
-				for (String key : map.keySet()) {
-					DeployContext context = map.get(key);
-					context.doEvent(null, FireDelayEvent.instance);
-				}
-				// ڲFireDelayEvent,ProcessorԵdelay¼
-				((EventProcessor) _starter).doEvent(FireDelayEvent.instance);
-				((EventProcessor) _ender).doEvent(FireDelayEvent.instance);
-				_statics.doEvent(FireDelayEvent.instance);
-				((EventProcessor) _reflector).doEvent(FireDelayEvent.instance);
-				((EventProcessor) _subProgressInvoker).doEvent(FireDelayEvent.instance);
-			} catch (Throwable ex) {
-				logger.warn(ex.getMessage());
-			}
-		}
-	};
 
 	public synchronized boolean deploy(DeployContext context) {
 		if (context.deploy()) {
 			// 
 			this._contexts.set(context.getPackageKey(), context);
 			this._contexts.flush();
+			// ؽַ,еĴӴ˿Ա·ɵ
+			this.rebuildRouteTable();
 			context.start();
 			return true;
 		} else {
@@ -314,6 +506,8 @@ public class EBus implements EventBus, ResourceFactoryTbl, ProgressManager {
 		DeployContext context = this._contexts.remove(packageKey);
 		if (context != null && context.isDeployed()) {
 			this._contexts.flush();
+			// ؽַ,ð·µ¼
+			this.rebuildRouteTable();
 			// 
 			context.undeploy();
 			// µ
@@ -348,6 +542,30 @@ public class EBus implements EventBus, ResourceFactoryTbl, ProgressManager {
 		return context.createProgress(progressKey, params, parent);
 	}
 
+	public CompletableFuture<Object> startProgress(String packageKey,
+												   String progressKey,
+												   Pin[] params,
+												   long timeoutMillis) {
+		FutureNotification future = new FutureNotification();
+		Progress progress = this.createProgress(packageKey, progressKey, params, null);
+		if (progress == null) {
+			future.completeExceptionally(new ComponentNotFoundErr(
+					packageKey + ":" + progressKey));
+			return future;
+		}
+		progress.setNotification(future);
+		if (timeoutMillis > 0) {
+			// ʱʹ̵Ľֹʱ,ʱַͳʱEPUƬж
+			progress.setCutOffTime(System.currentTimeMillis() + timeoutMillis);
+		}
+		try {
+			this.fire(progress.getStartTask());
+		} catch (Throwable ex) {
+			future.completeExceptionally(ex);
+		}
+		return future;
+	}
+
 	public Event createEvent(String packageKey, String eventKey, Object[] params) {
 		DeployContext context = this._contexts.get(packageKey);
 		if (context == null) {
@@ -0,0 +1,67 @@
+package com.jurassic.core.bus.impl;
+
+import com.jurassic.core.bus.Route;
+import com.jurassic.core.processor.EventProcessor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ߵ·ɷַ
+ * ַֻĿ,ڰ,жػ·ɵʱؽ滻
+ * fireʱҪκ
+ *
+ * @author yzhu
+ */
+class RouteTable {
+
+	static final EventProcessor<?>[] NO_TARGET = new EventProcessor<?>[0];
+	static final RouteTable EMPTY = new RouteTable(
+			Collections.emptyList(), new EventProcessor<?>[0][]);
+
+	// Ѿɵ·,±꼴Ϊ·ɵid
+	private final List<Route> _routes;
+	// Ԫ鵽·ɵ,packageKey->handlerKey->route
+	private final Map<String, Map<String, Route>> _index = new HashMap<>();
+	// ·idΪ±ķַ,ÿһΪ·ɶӦĿ괦
+	private final EventProcessor<?>[][] _targets;
+
+	RouteTable(List<Route> routes, EventProcessor<?>[][] targets) {
+		this._routes = routes;
+		this._targets = targets;
+		for (Route route : routes) {
+			this._index.computeIfAbsent(route.getPackageKey(), k -> new HashMap<>())
+					.put(route.getHandlerKey(), route);
+		}
+	}
+
+	/**
+	 * Ѿɵ·,ڷnull
+	 */
+	Route find(String packageKey, String handlerKey) {
+		Map<String, Route> routes = this._index.get(packageKey);
+		return routes != null ? routes.get(handlerKey) : null;
+	}
+
+	/**
+	 * ·ɶӦĿ괦
+	 */
+	EventProcessor<?>[] getTargets(Route route) {
+		int id = route.getId();
+		if (id < this._targets.length) {
+			EventProcessor<?>[] targets = this._targets[id];
+			return targets != null ? targets : NO_TARGET;
+		}
+		return NO_TARGET;
+	}
+
+	/**
+	 * ·ɵĸ,ؽַ
+	 */
+	List<Route> copyRoutes() {
+		return new ArrayList<>(this._routes);
+	}
+}
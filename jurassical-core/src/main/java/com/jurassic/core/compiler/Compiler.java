@@ -9,14 +9,20 @@ import java.util.*;
 import com.jurassic.core.compiler.element.*;
 import com.jurassic.core.classloader.ComponentClassLoader;
 import com.jurassic.core.compiler.express.DataNode;
+import com.jurassic.core.compiler.express.ExpressCompiler;
 import com.jurassic.core.compiler.express.ExpressNode;
+import com.jurassic.core.compiler.express.ExpressOptimizer;
 import com.jurassic.core.compiler.express.Node;
+import com.jurassic.core.compiler.express.Operator;
 import com.jurassic.core.compiler.express.Variable;
-import com.jurassic.core.notification.ResultNotification;
 import com.jurassic.core.progress.Progress;
+import com.jurassic.core.progress.factory.PinTemplate;
+import com.jurassic.core.progress.factory.ProgressGraph;
 import com.jurassic.core.progress.factory.ProgressTemplate;
 import com.jurassic.core.progress.handler.pin.*;
+import com.jurassic.core.progress.handler.pin.express.DataType;
 import com.jurassic.core.progress.handler.pin.express.Express;
+import com.jurassic.core.progress.handler.pin.express.date.DateFormat;
 import com.jurassic.core.progress.task.JumpEndTask;
 import com.jurassic.core.progress.task.JumpStartTask;
 import com.jurassic.core.progress.task.SubProgressInvokeTask;
@@ -25,6 +31,8 @@ import org.dom4j.Attribute;
 import org.dom4j.Document;
 import org.dom4j.Element;
 import org.dom4j.io.SAXReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * ļ
@@ -34,6 +42,8 @@ import org.dom4j.io.SAXReader;
  */
 public class Compiler {
 
+	private static final Logger logger = LoggerFactory.getLogger(Compiler.class);
+
 	/**
 	 * <input><output>
 	 */
@@ -595,411 +605,364 @@ public class Compiler {
 	}
 
     /**
-     * ProgressTemplateĶɶӦProgressTemplateӿ
+     * ProgressTemplateĶͼ
+     * ,캯еĹܽö,̵ʱҪҺӳټ
      */
     public static ProgressTemplate generateProgressTemplate(
-            ProgressElement progressElement, ComponentClassLoader classLoader) {
-        return new ProgressTemplate() {
-
-            public void initProgress(Progress progress, Pin[] paramPins) throws Exception{
-				// ɷݹܽ
-				Map<String, PinHandler> lazyPins = new HashMap<>();
-				Map<String, Task> tasks = new HashMap<>();
-				// ĬϷstartend
-				tasks.put("start", progress.getStartTask());
-				tasks.put("end", progress.getEndTask());
-				Map<String, Pin> pins = new HashMap<>();
-				for (Map.Entry<String, PinElement> entry : progressElement.getPins().entrySet()) {
-					Pin pin = generatePin(entry.getValue(), paramPins, classLoader,
-							pins, tasks, lazyPins);
-					pins.put(entry.getKey(), pin);
-				}
-				// Task
-				for (Map.Entry<String, TaskElement> entry : progressElement.getTasks().entrySet()) {
-					Task task = generateTask(
-							progress, entry.getValue(), paramPins, classLoader,
-							pins, tasks, lazyPins);
-					tasks.put(entry.getKey(), task);
-				}
+            ProgressElement progressElement, ComponentClassLoader classLoader)
+			throws Exception {
+		GraphContext ctx = new GraphContext(progressElement, classLoader);
+		ProgressGraph.Builder builder = ctx._builder;
+		// ,startendıŹ̶
+		ctx._taskIds.put("start", ProgressGraph.START);
+		ctx._taskIds.put("end", ProgressGraph.END);
+		for (Map.Entry<String, TaskElement> entry : progressElement.getTasks().entrySet()) {
+			ctx._taskIds.put(entry.getKey(),
+					builder.addTask(compileTask(entry.getValue(), classLoader)));
+		}
+		for (Map.Entry<String, SubProgressElement> entry : progressElement.getSubProgress().entrySet()) {
+			String packageKey = entry.getValue().getPackageKey();
+			String progressKey = entry.getValue().getProgressKey();
+			ctx._taskIds.put(entry.getKey(), builder.addTask(
+					progress -> new SubProgressInvokeTask(progress, packageKey, progressKey)));
+		}
+		// ݹܽ
+		for (String name : progressElement.getPins().keySet()) {
+			ctx._namedSlots.put(name, builder.addNamedPin());
+		}
+		for (String name : progressElement.getPins().keySet()) {
+			compileNamedPin(name, ctx);
+		}
+		// ܽ
+		for (Map.Entry<String, TaskElement> entry : progressElement.getTasks().entrySet()) {
+			int id = ctx._taskIds.get(entry.getKey());
+			if (!entry.getValue().getInputs().isEmpty())
+				builder.setInputs(id, compilePins(entry.getValue().getInputs(), ctx));
+			if (JumpEndTask.class.getName().equals(entry.getValue().getClassName())) {
 				// if-endif
-				for (Map.Entry<String, Task> entry : tasks.entrySet()) {
-					if (entry.getValue() instanceof  JumpEndTask) {
-						JumpEndTask endif = (JumpEndTask) entry.getValue();
-						String name = entry.getKey();
-						String nameOfIf = name.substring(0, name.length() - 6);
-						JumpStartTask jmpStart = (JumpStartTask) tasks.get(nameOfIf);
-						if (jmpStart == null) {
-							throw new Exception("invalid if-endif");
-						}
-						endif.setJumpStartTask(jmpStart);
-					}
-				}
-				// ̵task
-				for (Map.Entry<String, SubProgressElement> entry : progressElement.getSubProgress().entrySet()) {
-					SubProgressInvokeTask task = generateSubProgress(
-							progress, entry.getValue(), paramPins, classLoader,
-							pins, tasks, lazyPins);
-					tasks.put(entry.getKey(), task);
-				}
-				// lazyеrefܽ
-				// refֻܽProgressжķPintaskoutput
-				if (!lazyPins.isEmpty()) {
-					for (Map.Entry<String, PinHandler> entry : lazyPins.entrySet()) {
-						String key = entry.getKey();
-						PinHandler pinHandler = entry.getValue();
-						pinHandler.setPin(getPin(pins, tasks, key));
-					}
-				}
-				// Ӹtask
-				List<BindElement> binds = progressElement.getBinds().getBinds();
-				for (BindElement bind : binds) {
-					Task from = tasks.get(bind.getFrom());
-					Task to = tasks.get(bind.getTo());
-					if (bind.getCondition() == null) {
-						from.bind(to);
-					} else {
-						Express condition = (Express) generateExpressPin(
-								bind.getCondition(), paramPins, classLoader,
-								pins, tasks, lazyPins
-						);
-						from.bindWithCondition(to, condition);
-					}
-				}
-				// ̵
-				NotificationElement notificationElement =
-						progressElement.getNotification();
-				if (notificationElement != null) {
-					// endpointtaskݹܽ
-					Task endTask = tasks.get(notificationElement.getTask());
-					Pin resultPin = null;
-					if (notificationElement.getResult() != null) {
-						resultPin = generatePin(notificationElement.getResult(),
-								paramPins, classLoader, pins, tasks, null);
-					}
-					progress.setEndpoint(endTask, resultPin);
-					if (notificationElement.getClassOfNotification() != null) {
-						// ֪ͨӿ
-						ResultNotification notification =
-								(ResultNotification) classLoader.loadClass(
-										notificationElement.getClassOfNotification()).newInstance();
-						progress.setNotification(notification);
-					}
-				}
-				// 쳣entry
-				if (progressElement.getExceptTable() != null) {
-					for (EntryElement errorEntryElement : progressElement.getExceptTable().getEntrys()) {
-						String from = errorEntryElement.getFrom();
-						String to = errorEntryElement.getTo();
-						Task start = "start".equals(from) ? progress.getStartTask() : tasks.get(from);
-						Task end = "end".equals(to) ? progress.getEndTask() : tasks.get(to);
-						Task entry = tasks.get(errorEntryElement.getExcept());
-						progress.addCatchTable(start, end, entry);
-					}
-				}
-            }
-
-            public String getProgressKey() {
-                return progressElement.getName();
-            }
-        };
-    }
-
-	/**
-	 * pinƻݹܽ
-	 */
-	private static Pin getPin(Map<String, Pin> pins, Map<String, Task> tasks, String name) {
-		int index1 = name.indexOf("{");
-		int index2 = name.indexOf("}");
-		if (index1 == -1) {
-			// ˷Pin
-			return pins.get(name);
-		} else {
-			// taskoutputܽ
-			String taskName = name.substring(0, index1);
-			int pinIndex = Integer.parseInt(name.substring(index1 + 1, index2));
-			Task task = tasks.get(taskName);
-			if (task == null)
-				return null;
-			return tasks.get(taskName).output(pinIndex);
+				String name = entry.getKey();
+				String nameOfIf = name.substring(0, name.length() - 6);
+				TaskElement jmpStart = progressElement.getTasks().get(nameOfIf);
+				if (jmpStart == null
+						|| !JumpStartTask.class.getName().equals(jmpStart.getClassName()))
+					throw new ParserException("invalid if-endif");
+				builder.setJumpStart(id, ctx._taskIds.get(nameOfIf));
+			}
 		}
-	}
-
-	/**
-	 * ̵
-	 */
-	private static SubProgressInvokeTask generateSubProgress(
-			Progress progress, SubProgressElement subProgressElement,
-			Pin[] paramPins, ComponentClassLoader classLoader,
-			Map<String, Pin> pins, Map<String, Task> tasks,
-			Map<String, PinHandler> lazyPins) throws Exception{
-		SubProgressInvokeTask task = new SubProgressInvokeTask(
-				progress, subProgressElement.getPackageKey(),
-				subProgressElement.getProgressKey());
-		if (!subProgressElement.getInputs().isEmpty()) {
-			Pin[] inputs = new Pin[subProgressElement.getInputs().size()];
-			int i = 0;
-			for (PinElement pinElement : subProgressElement.getInputs()) {
-				// ÿܽ
-				inputs[i++] = generatePin(pinElement, paramPins,
-						classLoader, pins, tasks, lazyPins);
+		for (Map.Entry<String, SubProgressElement> entry : progressElement.getSubProgress().entrySet()) {
+			if (!entry.getValue().getInputs().isEmpty())
+				builder.setInputs(ctx._taskIds.get(entry.getKey()),
+						compilePins(entry.getValue().getInputs(), ctx));
+		}
+		// Ӹtask
+		for (BindElement bind : progressElement.getBinds().getBinds()) {
+			PinTemplate condition = bind.getCondition() != null ?
+					compilePin(bind.getCondition(), null, ctx) : null;
+			builder.bind(ctx._taskIds.get(bind.getFrom()),
+					ctx._taskIds.get(bind.getTo()), condition);
+		}
+		// ̵
+		NotificationElement notificationElement = progressElement.getNotification();
+		if (notificationElement != null) {
+			PinTemplate result = notificationElement.getResult() != null ?
+					compilePin(notificationElement.getResult(), null, ctx) : null;
+			Class<?> notification = notificationElement.getClassOfNotification() != null ?
+					classLoader.loadClass(notificationElement.getClassOfNotification()) : null;
+			builder.setEndpoint(ctx._taskIds.get(notificationElement.getTask()),
+					result, notification);
+		}
+		// 쳣entry
+		if (progressElement.getExceptTable() != null) {
+			for (EntryElement entry : progressElement.getExceptTable().getEntrys()) {
+				builder.addCatchTable(ctx._taskIds.get(entry.getFrom()),
+						ctx._taskIds.get(entry.getTo()),
+						ctx._taskIds.get(entry.getExcept()));
 			}
-			task.input(inputs);
 		}
-		return task;
+		if (ctx._optimizer.getEliminatedNum() > 0)
+			logger.info("progress " + progressElement.getName() + " express optimized: " + ctx._optimizer);
+		return builder.build();
+	}
+
+	/**
+	 * ͼʱʹõ
+	 */
+	private static class GraphContext {
+		private final ProgressElement _element;
+		private final ComponentClassLoader _classLoader;
+		private final ProgressGraph.Builder _builder;
+		private final Map<String, Integer> _taskIds = new HashMap<>();// ƶӦı
+		private final Map<String, Integer> _namedSlots = new HashMap<>();// ܽŵĲλ
+		private final Map<String, Integer> _namedTypes = new HashMap<>();// ܽűʱȷ
+		// ܽŵı״̬,1Ϊڱ,2Ϊ,ڼѭ
+		private final Map<String, Integer> _namedStates = new HashMap<>();
+		private final ExpressCompiler _expressCompiler;// ʽ,ûʱΪnull
+		private final ExpressOptimizer _optimizer = new ExpressOptimizer();// ʽŻ,¼ŻĽڵ
+		private final Map<String, PinTemplate.Shared> _sharedExpress = new HashMap<>();// ӱʽ
+		private int _expressNum = 0;// Ѿıʽ
+		private int _expressScope = 0;// ڱıʽı,޶ӱʽĺϲΧ
+
+		GraphContext(ProgressElement element, ComponentClassLoader classLoader) {
+			this._element = element;
+			this._classLoader = classLoader;
+			this._builder = new ProgressGraph.Builder(element.getName());
+			this._expressCompiler = classLoader != null ? new ExpressCompiler(classLoader) : null;
+		}
 	}
 
 	/**
-	 * task
+	 * taskĴ
 	 */
-	private static Task generateTask(
-			Progress progress, TaskElement taskElement, Pin[] paramPins,
-			ComponentClassLoader classLoader,
-			Map<String, Pin> pins, Map<String, Task> tasks,
-			Map<String, PinHandler> lazyPins) throws Exception{
+	private static ProgressGraph.TaskFactory compileTask(
+			TaskElement taskElement, ComponentClassLoader classLoader) throws Exception {
 		String className = taskElement.getClassName();
 		String desc = taskElement.getDesc();
-		// taskʵ
+		if (JumpStartTask.class.getName().equals(className)) {
+			return progress -> new JumpStartTask(progress, desc);
+		} else if (JumpEndTask.class.getName().equals(className)) {
+			return progress -> new JumpEndTask(progress, desc);
+		}
+		// 캯ֻһ
 		Class<?> classOfTask = classLoader.loadClass(className);
 		Constructor<?> constructor = classOfTask.getConstructor(Progress.class, String.class);
-		Task task = (Task)constructor.newInstance(progress, desc);
-		// עinputܽ
-		if (!taskElement.getInputs().isEmpty()) {
-			Pin[] inputs = new Pin[taskElement.getInputs().size()];
-			int i = 0;
-			for (PinElement pinElement : taskElement.getInputs()) {
-				// ÿܽŶɶӦPin
-				inputs[i++] = generatePin(pinElement, paramPins,
-						classLoader, pins, tasks, lazyPins);
-			}
-			task.input(inputs);
-		}
-		return task;
-	}
-
-	/**
-	 * data͵ݹܽ
-	 */
-	private static Pin generateDataPin(
-			DataElement dataElement){
-		// ھ̬boolean/int/long/decimal/string/date
-		// ʹObjectPin
-		return new ObjectPin(dataElement.getData());
-	}
-
-	/**
-	 * param͵ݹܽ
-	 */
- 	private static Pin generateParamPin(
-			ParamElement paramElement, Pin[] paramPins) {
-		return paramPins[paramElement.getIndex()];
+		return progress -> (Task) constructor.newInstance(progress, desc);
 	}
 
 	/**
-	 * static-object͵ݹܽ
+	 * ݹܽ,õĹܽ߱
 	 */
-	private static Pin generateStaticObjectPin(
-			StaticObjectElement staticObjectElement,
-			ComponentClassLoader classLoader) throws Exception{
-		// ̬ʵʹObjectPin
-		String className = staticObjectElement.getClassName();
-		String instance = staticObjectElement.getInstance();
-		Class<?> clz = classLoader.loadClass(className);
-		Field field = clz.getDeclaredField(instance);
-		return new ObjectPin(field.get(null));
+	private static void compileNamedPin(String name, GraphContext ctx) throws Exception {
+		Integer state = ctx._namedStates.get(name);
+		if (state != null) {
+			if (state == 1)
+				throw new ParserException("circular <ref/> " + name);
+			return;
+		}
+		ctx._namedStates.put(name, 1);
+		PinTemplate pin = compilePin(ctx._element.getPins().get(name), null, ctx);
+		ctx._builder.setNamedPin(ctx._namedSlots.get(name), pin);
+		ctx._namedTypes.put(name, pin.getDataType());
+		ctx._namedStates.put(name, 2);
 	}
 
-	/**
-	 * class͵ݹܽ
-	 */
-	private static Pin generateClassPin(
-			ClassElement classElement,
-			ComponentClassLoader classLoader)
+	private static PinTemplate[] compilePins(List<PinElement> pinElements, GraphContext ctx)
 			throws Exception {
-		// ʹObjectPin
-		String className = classElement.getClassName();
-		Class<?> clz = classLoader.loadClass(className);
-		return new ObjectPin(clz);
-	}
-
-	/**
-	 * list͵ݹܽ
-	 */
-	private static Pin generateListPin(
-			ListElement listElement, Pin[] paramPins,
-			ComponentClassLoader classLoader,
-			Map<String, Pin> pins, Map<String, Task> tasks,
-			Map<String, PinHandler> lazyPins) throws Exception {
-		// ʹListPinÿԪɶӦPin
-		ListPin pin = new ListPin();
-		for (PinElement subPinElement : listElement.getPins()) {
-			pin.add(generatePin(subPinElement, paramPins,
-					classLoader, pins, tasks, lazyPins));
+		PinTemplate[] pins = new PinTemplate[pinElements.size()];
+		int i = 0;
+		for (PinElement pinElement : pinElements) {
+			pins[i++] = compilePin(pinElement, null, ctx);
 		}
-		return pin;
+		return pins;
 	}
 
 	/**
-	 * composite͵ݹܽ
+	 * ,õǷPintaskoutput
 	 */
-	private static Pin generateCompositePin(
-			CompositeElement compositeElement,
-			Pin[] paramPins, ComponentClassLoader classLoader,
-			Map<String, Pin> pins, Map<String, Task> tasks,
-			Map<String, PinHandler> lazyPins)
-			throws Exception{
-		// ʹCompositePin
-		String className = compositeElement.getClassName();
-		Class<?> clz = classLoader.loadClass(className);
-		CompositePin compositePin = (CompositePin) clz.newInstance();
-		for (PinElement pinElement : compositeElement.getPins()) {
-			Pin subPin = generatePin(pinElement, paramPins,
-					classLoader, pins, tasks, lazyPins);
-			compositePin.addPin(subPin);
-		}
-		return compositePin;
+	private static PinTemplate compileRef(String refName, GraphContext ctx) throws Exception {
+		int index1 = refName.indexOf("{");
+		int index2 = refName.indexOf("}");
+		if (index1 == -1) {
+			// ˷Pin
+			Integer slot = ctx._namedSlots.get(refName);
+			if (slot == null)
+				throw new ParserException("invalid <ref/> " + refName);
+			compileNamedPin(refName, ctx);
+			return PinTemplate.named(slot, ctx._namedTypes.get(refName));
+		}
+		// taskoutputܽ
+		Integer taskId = ctx._taskIds.get(refName.substring(0, index1));
+		if (taskId == null)
+			throw new ParserException("invalid <ref/> " + refName);
+		return PinTemplate.output(taskId,
+				Integer.parseInt(refName.substring(index1 + 1, index2)));
+	}
+
+	/**
+	 * ݱʽڵܽ
+	 * ʽڲĹܽŰ,ͬķܽ
+	 * ѧ,ϵ߼ɵΪһʽ,еıΪ
+	 * ͬıʽϲ,ڶγֵʱܽŵĲλʵ
+	 * ʽһμ󻺴,޸ıõĶ,һֻͬһʽںϲ,
+	 * ֻҶӶǳ̲,Ҳȡڲݵкϲ
+	 */
+	private static PinTemplate compileNode(
+			Node node, List<PinTemplate> localPins, GraphContext ctx) throws Exception {
+		if (!(node instanceof ExpressNode))
+			return compileData(node, localPins, ctx);
+		String key = ExpressOptimizer.keyOf(node, localPins != null ? localPins.size() : 0);
+		if (key == null)
+			return compileExpress(node, localPins, ctx);
+		if (!isStable(node, ctx))
+			key = "#" + ctx._expressScope + ":" + key;
+		PinTemplate.Shared shared = ctx._sharedExpress.get(key);
+		if (shared == null) {
+			shared = PinTemplate.shared(compileExpress(node, localPins, ctx));
+			ctx._sharedExpress.put(key, shared);
+		} else {
+			if (!shared.isShared()) {
+				int slot = ctx._builder.addNamedPin();
+				ctx._builder.setNamedPin(slot, shared.getTemplate());
+				shared.share(slot);
+			}
+			ctx._optimizer.share(node);
+		}
+		return shared;
 	}
 
 	/**
-	 * ref͵ݹܽ
+	 * жĽǷ񲻻ı
+	 * ߷ǲܽŵı,Լȡ,size,ȡԪغsublistĽִиı
 	 */
-	private static Pin generateRefPin(
-			RefElement refElement, Map<String, Pin> pins,
-			Map<String, Task> tasks, Map<String, PinHandler> lazyPins) {
-		// ȴѾpintask
-		Pin refPin = getPin(pins, tasks, refElement.getRefName());
-		if (refPin != null)
-			return refPin;
-		// ûдpinlazyģʽʱ
-		PinHandler pin = new PinHandler();
-		lazyPins.put(refElement.getRefName(), pin);
-		return pin;
+	private static boolean isStable(Node node, GraphContext ctx) {
+		if (node instanceof DataNode) {
+			Object data = ((DataNode) node).getData();
+			if (!(data instanceof Variable))
+				return true;
+			Variable variable = (Variable) data;
+			if (variable.getIndex() != -1)
+				return false;
+			PinElement pinElement = ctx._element.getPins().get(variable.getRefName());
+			return pinElement != null && (pinElement.getPinType() == PinElement.T_PARAM
+					|| pinElement.getPinType() == PinElement.T_DATA
+					|| pinElement.getPinType() == PinElement.T_CLASS);
+		}
+		switch (((ExpressNode) node).getOperator()) {
+			case FIELD: case SIZE: case ELEMENT: case SUBLIST:
+				return false;
+			default:
+				break;
+		}
+		for (Node child = node.getFirstChild(); child != null; child = child.getBrother()) {
+			if (!isStable(child, ctx))
+				return false;
+		}
+		return true;
 	}
 
-	/**
-	 * ݱʽڵɶӦݹܽ
-	 */
-	private static Pin generatePinFromNode(
-			Node node, Map<String, Pin> pins, Map<String, Task> tasks,
-			Map<String, PinHandler> lazyPins) throws Exception {
+	private static PinTemplate compileData(
+			Node node, List<PinTemplate> localPins, GraphContext ctx) throws Exception {
 		if (node instanceof DataNode) {
 			// ݽڵ
-			DataNode dataNode = (DataNode) node;
-			Object data = dataNode.getData();
+			Object data = ((DataNode) node).getData();
 			if (data instanceof Variable) {
-				// pinΪùܽ
 				Variable variable = (Variable) data;
 				String refName = variable.getRefName();
-				int index = variable.getIndex();
-				if (index == -1) {
-					// ͨݹܽţpinsвңʱڣlazyPinsӳټ
-					Pin pin = pins.get(refName);
-					if (pin == null) {
-						PinHandler pinHandler = new PinHandler();
-						lazyPins.put(refName, pinHandler);
-						return pinHandler;
-					} else {
-						return pin;
-					}
-				} else {
-					// taskܽ
-					Task task = tasks.get(refName);
-					if (task == null) {
-						PinHandler pinHandler = new PinHandler();
-						lazyPins.put(refName + "{" + index + "}", pinHandler);
-						return pinHandler;
-					} else {
-						return task.output(index);
-					}
+				if (variable.getIndex() != -1)
+					return compileRef(refName + "{" + variable.getIndex() + "}", ctx);
+				for (int i = 0; i < localPins.size(); i++) {
+					if (refName.equals("" + i))
+						return localPins.get(i);
 				}
-			} else {
-				// pinΪstringbooleannumber
-				return new ObjectPin(data);
+				return compileRef(refName, ctx);
 			}
+			// pinΪstringbooleannumber
+			return PinTemplate.constant(data);
+		}
+		throw new ParserException("invalid <express/>");
+	}
+
+	private static PinTemplate compileExpress(
+			Node node, List<PinTemplate> localPins, GraphContext ctx) throws Exception {
+		if (ctx._expressCompiler != null && ExpressCompiler.isCompilable(node)) {
+			// ıʽڵ,ȱ,ఴղƶϵͼ
+			List<Node> operandNodes = ExpressCompiler.getOperands(node);
+			PinTemplate[] operands = new PinTemplate[operandNodes.size()];
+			int[] operandTypes = new int[operands.length];
+			for (int i = 0; i < operands.length; i++) {
+				operands[i] = compileNode(operandNodes.get(i), localPins, ctx);
+				operandTypes[i] = operands[i].getDataType();
+			}
+			ExpressCompiler.Compiled compiled = ctx._expressCompiler.compile(node, operandTypes);
+			return PinTemplate.express(compiled.getExpressClass().getConstructor(),
+					operands, compiled.getDataType());
 		} else if (node instanceof ExpressNode) {
 			// ʽڵ
 			ExpressNode expressNode = (ExpressNode) node;
 			Class<?> clz = Express.expressTbl.get(expressNode.getOperator());
-			Express express = (Express) clz.newInstance();
-			// ɶӦڵPin
-			List<Pin> paramPins = new ArrayList<>();
+			List<PinTemplate> operands = new ArrayList<>();
 			Node child = expressNode.getFirstChild();
 			while (child != null) {
-				paramPins.add(generatePinFromNode(child, pins, tasks, lazyPins));
+				operands.add(compileNode(child, localPins, ctx));
 				child = child.getBrother();
 			}
-			// ʽPin
-			express.setPins(paramPins.toArray(new Pin[0]));
-			return express;
+			if (expressNode.getOperator() == Operator.DATEFORMAT)
+				compileDateFormat(expressNode, operands);
+			return PinTemplate.express(clz.getConstructor(),
+					operands.toArray(new PinTemplate[0]));
 		}
 		throw new ParserException("invalid <express/>");
 	}
 
-    /**
-     * express͵ݹܽ
-     */
-    private static Pin generateExpressPin(
-            ExpressElement expressElement, Pin[] paramPins,
-			ComponentClassLoader classLoader,
-			Map<String, Pin> pins, Map<String, Task> tasks,
-			Map<String, PinHandler> lazyPins)  throws Exception{
-		// ʽpinɱصݹܽ
-		List<PinElement> localPinElements = expressElement.getPins();
-		List<Pin> localPins = new ArrayList<>();
-		if (!localPinElements.isEmpty()) {
-			for (PinElement pinElement : localPinElements) {
-				localPins.add(generatePin(pinElement, paramPins, classLoader,
-						pins, tasks, lazyPins));
-			}
-		}
-		// ݽıʽɶӦExpress
-		// Ȱѱʽڲݹܽţ뵽pins
-		Map<String, Pin> allPins = new HashMap<>(pins);
-		if (!localPins.isEmpty()) {
-			// عܽŵnameҪ
-			for (int i = 0; i < localPins.size(); i++) {
-				allPins.put("" + i, localPins.get(i));
-			}
+	/**
+	 * ڸʽǳʱڱʱΪʽ,ʽʱ򱣳ԭ,ʱ
+	 */
+	private static void compileDateFormat(ExpressNode node, List<PinTemplate> operands) {
+		Node format = node.getFirstChild().getBrother();
+		if (!(format instanceof DataNode) || !(((DataNode) format).getData() instanceof String))
+			return;
+		try {
+			operands.set(1, PinTemplate.constant(
+					DateFormat.formatter((String) ((DataNode) format).getData())));
+		} catch (IllegalArgumentException ignored) {
 		}
-		Node root = expressElement.getRoot();
-		return generatePinFromNode(root, allPins, tasks, lazyPins);
 	}
 
 	/**
-	 * ݹܽ
+	 * ݹܽ
+	 * data,classemptyڱʱ,еֻ̹Ĺܽ,static-objectڴ̵ʱȡ
 	 */
-	private static Pin generatePin(
-			PinElement pinElement, Pin[] paramPins,
-			ComponentClassLoader classLoader,
-			Map<String, Pin> pins, Map<String, Task> tasks,
-			Map<String, PinHandler> lazyPins)
-			throws Exception{
-		int pinType = pinElement.getPinType();
-		switch (pinType) {
+	private static PinTemplate compilePin(
+			PinElement pinElement, List<PinTemplate> localPins, GraphContext ctx)
+			throws Exception {
+		switch (pinElement.getPinType()) {
 			case PinElement.T_DATA:
-				return generateDataPin((DataElement) pinElement);
-			case PinElement.T_STATIC:
-				return generateStaticObjectPin(
-						(StaticObjectElement) pinElement, classLoader);
+				return PinTemplate.constant(((DataElement) pinElement).getData());
+			case PinElement.T_STATIC: {
+				StaticObjectElement element = (StaticObjectElement) pinElement;
+				Class<?> clz = ctx._classLoader.loadClass(element.getClassName());
+				Field field = clz.getDeclaredField(element.getInstance());
+				// ڱʱ,ڴ̵ʱȡ,DeployAwareʱֵľ̬Ҳܶ
+				return PinTemplate.staticField(field);
+			}
 			case PinElement.T_CLASS:
-				return generateClassPin(
-						(ClassElement) pinElement, classLoader);
-			case PinElement.T_PARAM:
-				return generateParamPin((ParamElement) pinElement, paramPins);
+				return PinTemplate.constant(ctx._classLoader.loadClass(
+						((ClassElement) pinElement).getClassName()));
+			case PinElement.T_PARAM: {
+				int index = ((ParamElement) pinElement).getIndex();
+				List<ProgressParamElement> inputs = ctx._element.getInputs();
+				return PinTemplate.param(index,
+						index < inputs.size() ? DataType.parse(inputs.get(index).getType()) : -1);
+			}
 			case PinElement.T_REF:
-				return generateRefPin((RefElement) pinElement, pins, tasks, lazyPins);
-			case PinElement.T_LIST:
-				return generateListPin(
-						(ListElement) pinElement, paramPins,
-						classLoader, pins, tasks, lazyPins);
-			case PinElement.T_EXPRESS:
-				return generateExpressPin((ExpressElement) pinElement, paramPins,
-						classLoader, pins, tasks, lazyPins);
-			case PinElement.T_COMPOSITE:
-				return generateCompositePin(
-						(CompositeElement) pinElement, paramPins,
-						classLoader, pins, tasks, lazyPins);
+				return compileRef(((RefElement) pinElement).getRefName(), ctx);
+			case PinElement.T_LIST: {
+				List<PinElement> elements = ((ListElement) pinElement).getPins();
+				return PinTemplate.list(compilePins(elements, ctx));
+			}
+			case PinElement.T_EXPRESS: {
+				// ȱʽڲĹܽ
+				ExpressElement element = (ExpressElement) pinElement;
+				List<PinTemplate> locals = new ArrayList<>();
+				for (PinElement local : element.getPins()) {
+					locals.add(compilePin(local, null, ctx));
+				}
+				// õľʽܽſڱб,ָʽı
+				int scope = ctx._expressScope;
+				ctx._expressScope = ++ctx._expressNum;
+				try {
+					return compileNode(ctx._optimizer.optimize(element.getRoot()), locals, ctx);
+				} finally {
+					ctx._expressScope = scope;
+				}
+			}
+			case PinElement.T_COMPOSITE: {
+				CompositeElement element = (CompositeElement) pinElement;
+				Class<?> clz = ctx._classLoader.loadClass(element.getClassName());
+				return PinTemplate.composite(clz.getConstructor(),
+						compilePins(element.getPins(), ctx));
+			}
 			case PinElement.T_EMPTY:
-				return EmptyPin.inst;
+				return PinTemplate.empty();
 		}
 		throw new ParserException("invalid <pin/>");
 	}
@@ -3,7 +3,6 @@ package com.jurassic.core.compiler.element;
 import com.jurassic.core.compiler.ParserException;
 import com.jurassic.core.compiler.express.*;
 
-import java.math.BigDecimal;
 import java.util.*;
 
 /**
@@ -76,24 +75,9 @@ public class ExpressElement extends PinElement {
 					for (int i = childs.length - 1; i >= 0; i--) {
 						childs[i] = dataStack.pop();
 					}
-					if (topOperator.getText().equals(".")) {
-						// .Ҫ⴦жӦΪǸ
-						if (childs[0] instanceof DataNode
-								&& ((DataNode) childs[0]).getData() instanceof Integer
-								&& childs[1] instanceof DataNode
-								&& ((DataNode) childs[1]).getData() instanceof Integer) {
-							int num1 = (Integer)((DataNode) childs[0]).getData();
-							int num2 = (Integer)((DataNode) childs[0]).getData();
-							BigDecimal decimal = new BigDecimal(num1 + "." + num2);
-							dataStack.push(new DataNode(decimal));
-						} else {
-							ExpressNode newNode = this.createExpressNode(topOperator, childs);
-							dataStack.push(newNode);
-						}
-					} else {
-						ExpressNode newNode = this.createExpressNode(topOperator, childs);
-						dataStack.push(newNode);
-					}
+					// СڷִʵʱѾϲΪһʣ.ǲ
+					ExpressNode newNode = this.createExpressNode(topOperator, childs);
+					dataStack.push(newNode);
 				} catch (Throwable ex) {
 					throw new ParserException("invalid <express/>");
 				}
@@ -325,13 +309,29 @@ public class ExpressElement extends PinElement {
 						words.add(buf);
 						buf = null;
 					}
-					words.add(s);
+					int size = words.size();
+					if (size >= 2 && ".".equals(words.get(size - 1))
+							&& isDigits(words.get(size - 2)) && isDigits(s)) {
+						// .ΪСԭĺϲΪһʣСֵǰ0
+						words.remove(size - 1);
+						words.set(size - 2, words.get(size - 2) + "." + s);
+					} else {
+						words.add(s);
+					}
 					break;
 			}
 		}
 		return words;
 	}
 
+	private static boolean isDigits(String word) {
+		for (int i = 0; i < word.length(); i++) {
+			if (!Character.isDigit(word.charAt(i)))
+				return false;
+		}
+		return !word.isEmpty();
+	}
+
 	/**
 	 * ʽı
 	 */
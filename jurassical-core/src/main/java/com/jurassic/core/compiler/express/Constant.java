@@ -2,6 +2,8 @@ package com.jurassic.core.compiler.express;
 
 import com.jurassic.core.compiler.ParserException;
 
+import java.math.BigDecimal;
+
 /**
  * 
  * 3ֵַࣺʹõţֵ
@@ -22,6 +24,12 @@ public class Constant {
             try {
                 return Integer.parseInt(text);
             } catch (Throwable ignored) {}
+            // СֱʹԭĹ죬
+            if (text.indexOf('.') != -1) {
+                try {
+                    return new BigDecimal(text);
+                } catch (Throwable ignored) {}
+            }
             // ټǷǳ
             if (text.charAt(text.length() - 1) == 'L') {
                 // ǳ
@@ -0,0 +1,557 @@
+package com.jurassic.core.compiler.express;
+
+import com.jurassic.core.classloader.ComponentClassLoader;
+import com.jurassic.core.progress.handler.pin.express.CompiledExpress;
+import com.jurassic.core.progress.handler.pin.express.DataType;
+import com.jurassic.core.progress.handler.pin.express.math.MathOperator;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ʽ
+ * ʽѧ,ϵ߼ɵĲΪһCompiledExpress
+ * ֱǶֽ,ȷʹûͼ,&&||·ֵ
+ * (size,sublist,.,[,dateformat)Ϊ,ɵ߱Ϊܽ,
+ * ߴƶϵ,,Ͳֵ͵Ĳװȡ
+ * ʹļ,ʱCompiledExpressΪɵͨ·,Ϊ߾ȸ
+ * ɵ,ͬṹͲ͵ıʽͬһ
+ *
+ * @author yzhu
+ */
+public class ExpressCompiler implements Opcodes {
+
+    private static final AtomicInteger SEQ = new AtomicInteger();// 
+    private static final String PACKAGE = "com/jurassic/generated/express/";
+
+    private static final String BASE = CompiledExpress.class.getName().replace('.', '/');
+    private static final String MATH = MathOperator.class.getName().replace('.', '/');
+    private static final String OBJECT = "java/lang/Object";
+    private static final String HELPER_2 = "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;";
+
+    // ڲջϵ
+    private static final int K_INT = 1;// int
+    private static final int K_LONG = 2;// long
+    private static final int K_BOOL = 3;// boolean
+    private static final int K_REF = 4;// Object
+
+    private final ComponentClassLoader _classLoader;// 
+    private final Map<String, Compiled> _classes = new HashMap<>();// ʽṹӦ
+
+    public ExpressCompiler(ComponentClassLoader classLoader) {
+        this._classLoader = classLoader;
+    }
+
+    /**
+     * Ľ
+     */
+    public static class Compiled {
+        private final Class<?> _expressClass;
+        private final int _dataType;
+
+        private Compiled(Class<?> expressClass, int dataType) {
+            this._expressClass = expressClass;
+            this._dataType = dataType;
+        }
+
+        /**
+         * ɵıʽ
+         */
+        public Class<?> getExpressClass() {
+            return this._expressClass;
+        }
+
+        /**
+         * (DataType),ȷʱΪ-1
+         */
+        public int getDataType() {
+            return this._dataType;
+        }
+    }
+
+    /**
+     * жϽڵǷԱ
+     */
+    public static boolean isCompilable(Node node) {
+        if (!(node instanceof ExpressNode))
+            return false;
+        switch (((ExpressNode) node).getOperator()) {
+            case NEG: case MUL: case DIV: case MOD: case ADD: case SUB:
+            case GREAT: case GREATEQUAL: case LESS: case LESSEQUAL:
+            case EQUAL: case NOTEQUAL:
+            case AND: case OR: case NOT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * ñʽĲڵ,˳Ϊ֮ܽõʽʵ
+     */
+    public static List<Node> getOperands(Node node) {
+        List<Node> operands = new ArrayList<>();
+        scan(node, operands, new StringBuilder());
+        return operands;
+    }
+
+    /**
+     * nodeΪıʽ,operandTypesΪܽƶϵ(DataType),ȷΪ-1
+     */
+    public Compiled compile(Node node, int[] operandTypes) throws Exception {
+        List<Node> operands = new ArrayList<>();
+        StringBuilder shape = new StringBuilder();
+        scan(node, operands, shape);
+        String key = shape.append(Arrays.toString(operandTypes)).toString();
+        Compiled compiled = this._classes.get(key);
+        if (compiled == null) {
+            Map<Node, Integer> kinds = new IdentityHashMap<>();
+            for (int i = 0; i < operands.size(); i++) {
+                kinds.put(operands.get(i), kindOf(operandTypes[i]));
+            }
+            String name = PACKAGE + "Express" + SEQ.incrementAndGet();
+            int kind = new Emitter(kinds, false).kindOf(node);
+            Class<?> clz = this._classLoader.loadClassFromBytes(
+                    name.replace('/', '.'), generate(name, node, kinds, kind));
+            compiled = new Compiled(clz, typeOf(kind));
+            this._classes.put(key, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * ͶӦջ
+     */
+    private static int kindOf(int dataType) {
+        switch (dataType) {
+            case DataType.T_INT:
+                return K_INT;
+            case DataType.T_LONG:
+                return K_LONG;
+            case DataType.T_BOOL:
+                return K_BOOL;
+            default:
+                return K_REF;
+        }
+    }
+
+    /**
+     * ջͶӦ
+     */
+    private static int typeOf(int kind) {
+        switch (kind) {
+            case K_INT:
+                return DataType.T_INT;
+            case K_LONG:
+                return DataType.T_LONG;
+            case K_BOOL:
+                return DataType.T_BOOL;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * ռڵ,ͬʱɱʽĽṹ
+     */
+    private static void scan(Node node, List<Node> operands, StringBuilder shape) {
+        if (isCompilable(node)) {
+            shape.append(((ExpressNode) node).getOperator().name()).append('(');
+            for (Node child = node.getFirstChild(); child != null; child = child.getBrother()) {
+                scan(child, operands, shape);
+                shape.append(',');
+            }
+            shape.append(')');
+        } else if (isConstant(node)) {
+            Object data = ((DataNode) node).getData();
+            String text = data.toString();
+            shape.append(data.getClass().getSimpleName()).append(':')
+                    .append(text.length()).append(':').append(text);
+        } else {
+            operands.add(node);
+            shape.append('#');
+        }
+    }
+
+    private static boolean isConstant(Node node) {
+        return node instanceof DataNode && !(((DataNode) node).getData() instanceof Variable);
+    }
+
+    /**
+     * ɱʽֽ
+     * Ϊ,ֵ߲ʱdoValue,doTyped,߶ƶϵͼ
+     * doGenericղʵʵݼ,ƶϲʱʹ
+     */
+    private static byte[] generate(String name, Node node, Map<Node, Integer> kinds, int kind) {
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS) {
+            protected String getCommonSuperClass(String type1, String type2) {
+                // ɵĴֻObjectϺϲ֧,Ҫ
+                return OBJECT;
+            }
+        };
+        cw.visit(V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, name, null, BASE, null);
+
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, BASE, "<init>", "()V", false);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        if (kind == K_REF) {
+            mv = cw.visitMethod(ACC_PROTECTED, "doTyped", "()Ljava/lang/Object;", null, null);
+            mv.visitCode();
+            new Emitter(kinds, false).begin(mv).emit(node);
+            mv.visitInsn(ARETURN);
+        } else {
+            mv = cw.visitMethod(ACC_PROTECTED, "doValue", "()J", null, null);
+            mv.visitCode();
+            if (new Emitter(kinds, false).begin(mv).emit(node) != K_LONG)
+                mv.visitInsn(I2L);
+            mv.visitInsn(LRETURN);
+        }
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        mv = cw.visitMethod(ACC_PROTECTED, "doGeneric", "()Ljava/lang/Object;", null, null);
+        mv.visitCode();
+        box(mv, new Emitter(Collections.emptyMap(), true).begin(mv).emit(node));
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    /**
+     * ջֵװΪObject
+     */
+    private static void box(MethodVisitor mv, int kind) {
+        if (kind == K_INT)
+            mv.visitMethodInsn(INVOKESTATIC, "java/lang/Integer", "valueOf", "(I)Ljava/lang/Integer;", false);
+        else if (kind == K_LONG)
+            mv.visitMethodInsn(INVOKESTATIC, "java/lang/Long", "valueOf", "(J)Ljava/lang/Long;", false);
+        else if (kind == K_BOOL)
+            mv.visitMethodInsn(INVOKESTATIC, "java/lang/Boolean", "valueOf", "(Z)Ljava/lang/Boolean;", false);
+    }
+
+    /**
+     * ʽֽ,ÿڵļڲջ
+     * ͨ·ĲObjectȡ,ѧ㶼CompiledExpressľ̬
+     */
+    private static class Emitter {
+        private final Map<Node, Integer> _kinds;// ڵջ
+        private final boolean _generic;// Ƿͨ·
+        private MethodVisitor _mv;
+        private int _slot = 0;// һ
+
+        Emitter(Map<Node, Integer> kinds, boolean generic) {
+            this._kinds = kinds;
+            this._generic = generic;
+        }
+
+        Emitter begin(MethodVisitor mv) {
+            this._mv = mv;
+            return this;
+        }
+
+        /**
+         * ɽڵļ,ؽ
+         */
+        int emit(Node node) {
+            if (!isCompilable(node)) {
+                return isConstant(node) ? this.constant(((DataNode) node).getData()) : this.operand(node);
+            }
+            ExpressNode expressNode = (ExpressNode) node;
+            Node first = expressNode.getFirstChild();
+            switch (expressNode.getOperator()) {
+                case NEG:
+                    return this.neg(node, first);
+                case NOT:
+                    this.bool(first);
+                    this._mv.visitInsn(ICONST_1);
+                    this._mv.visitInsn(IXOR);
+                    return K_BOOL;
+                case AND:
+                    return this.logic(first, first.getBrother(), IFEQ);
+                case OR:
+                    return this.logic(first, first.getBrother(), IFNE);
+                case GREAT:
+                    return this.relation(first, first.getBrother(), IFGT, IF_ICMPGT);
+                case GREATEQUAL:
+                    return this.relation(first, first.getBrother(), IFGE, IF_ICMPGE);
+                case LESS:
+                    return this.relation(first, first.getBrother(), IFLT, IF_ICMPLT);
+                case LESSEQUAL:
+                    return this.relation(first, first.getBrother(), IFLE, IF_ICMPLE);
+                case EQUAL:
+                    return this.equality(first, first.getBrother(), IFNE);
+                case NOTEQUAL:
+                    return this.equality(first, first.getBrother(), IFEQ);
+                case ADD:
+                    return this.math(node, LADD, "addExact", "add");
+                case SUB:
+                    return this.math(node, LSUB, "subtractExact", "sub");
+                case MUL:
+                    return this.math(node, LMUL, "multiplyExact", "mul");
+                case DIV:
+                    return this.math(node, LDIV, "divideExact", "div");
+                case MOD:
+                    // ģ
+                    return this.math(node, LREM, null, "mod");
+                default:
+                    throw new IllegalStateException(expressNode.getOperator().name());
+            }
+        }
+
+        private int constant(Object data) {
+            MethodVisitor mv = this._mv;
+            if (data instanceof Integer) {
+                mv.visitLdcInsn(data);
+                return K_INT;
+            } else if (data instanceof Long) {
+                mv.visitLdcInsn(data);
+                return K_LONG;
+            } else if (data instanceof Boolean) {
+                mv.visitInsn((Boolean) data ? ICONST_1 : ICONST_0);
+                return K_BOOL;
+            } else if (data instanceof BigDecimal) {
+                mv.visitTypeInsn(NEW, "java/math/BigDecimal");
+                mv.visitInsn(DUP);
+                mv.visitLdcInsn(data.toString());
+                mv.visitMethodInsn(INVOKESPECIAL, "java/math/BigDecimal", "<init>", "(Ljava/lang/String;)V", false);
+                return K_REF;
+            }
+            mv.visitLdcInsn(data.toString());
+            return K_REF;
+        }
+
+        /**
+         * ȡ,ƶΪ,ͲֵĲװ
+         */
+        private int operand(Node node) {
+            int kind = this.kindOf(node);
+            this._mv.visitVarInsn(ALOAD, 0);
+            this._mv.visitLdcInsn(this._slot++);
+            if (kind == K_INT)
+                this._mv.visitMethodInsn(INVOKEVIRTUAL, BASE, "operandInt", "(I)I", false);
+            else if (kind == K_LONG)
+                this._mv.visitMethodInsn(INVOKEVIRTUAL, BASE, "operandLong", "(I)J", false);
+            else if (kind == K_BOOL)
+                this._mv.visitMethodInsn(INVOKEVIRTUAL, BASE, "operandBoolean", "(I)Z", false);
+            else
+                this._mv.visitMethodInsn(INVOKEVIRTUAL, BASE, "operand", "(I)Ljava/lang/Object;", false);
+            return kind;
+        }
+
+        private static boolean isIntegral(int kind) {
+            return kind == K_INT || kind == K_LONG;
+        }
+
+        /**
+         * ̬ƶϽڵ,ھǷʹûͼ
+         */
+        int kindOf(Node node) {
+            if (isConstant(node)) {
+                Object data = ((DataNode) node).getData();
+                if (data instanceof Integer)
+                    return K_INT;
+                else if (data instanceof Long)
+                    return K_LONG;
+                else if (data instanceof Boolean)
+                    return K_BOOL;
+                return K_REF;
+            }
+            if (!isCompilable(node)) {
+                Integer kind = this._kinds.get(node);
+                return kind != null ? kind : K_REF;
+            }
+            ExpressNode expressNode = (ExpressNode) node;
+            Node first = expressNode.getFirstChild();
+            switch (expressNode.getOperator()) {
+                case NEG:
+                    if (this._generic)
+                        return K_REF;
+                    return isIntegral(this.kindOf(first)) ? this.kindOf(first) : K_REF;
+                case ADD: case SUB: case MUL: case DIV: case MOD: {
+                    if (this._generic)
+                        return K_REF;
+                    int kind1 = this.kindOf(first);
+                    int kind2 = this.kindOf(first.getBrother());
+                    if (!isIntegral(kind1) || !isIntegral(kind2))
+                        return K_REF;
+                    return kind1 == K_LONG || kind2 == K_LONG ? K_LONG : K_INT;
+                }
+                default:
+                    return K_BOOL;
+            }
+        }
+
+        /**
+         * ջתΪĿ
+         */
+        private void widen(int kind, int target) {
+            if (kind == K_INT && target == K_LONG)
+                this._mv.visitInsn(I2L);
+        }
+
+        /**
+         * Ľ,֮ĽתΪ
+         */
+        private void exact(int kind, String exact, String desc) {
+            if (exact != null)
+                this._mv.visitMethodInsn(INVOKESTATIC, MATH, exact, desc, false);
+            if (kind == K_INT)
+                this._mv.visitMethodInsn(INVOKESTATIC, MATH, "toInt", "(J)I", false);
+        }
+
+        private int neg(Node node, Node child) {
+            int kind = this.kindOf(node);
+            if (isIntegral(kind)) {
+                this.widen(this.emit(child), K_LONG);
+                if (kind == K_INT)
+                    this._mv.visitInsn(LNEG);
+                this.exact(kind, kind == K_LONG ? "negateExact" : null, "(J)J");
+                return kind;
+            }
+            box(this._mv, this.emit(child));
+            this._mv.visitMethodInsn(INVOKESTATIC, BASE, "neg",
+                    "(Ljava/lang/Object;)Ljava/lang/Object;", false);
+            return K_REF;
+        }
+
+        /**
+         * ѧ,ʱճ㲢,CompiledExpressľ̬
+         * ĽڳΧ,ֻҪܷת,MathOperator鷽
+         */
+        private int math(Node node, int longOpcode, String exact, String helper) {
+            int kind = this.kindOf(node);
+            Node left = node.getFirstChild();
+            Node right = left.getBrother();
+            if (isIntegral(kind)) {
+                this.widen(this.emit(left), K_LONG);
+                this.widen(this.emit(right), K_LONG);
+                if (kind == K_INT || exact == null)
+                    this._mv.visitInsn(longOpcode);
+                this.exact(kind, kind == K_LONG ? exact : null, "(JJ)J");
+                return kind;
+            }
+            box(this._mv, this.emit(left));
+            box(this._mv, this.emit(right));
+            this._mv.visitMethodInsn(INVOKESTATIC, BASE, helper, HELPER_2, false);
+            return K_REF;
+        }
+
+        /**
+         * ջɱȽϽ,jumpΪʱתָ
+         */
+        private void condition(int jump) {
+            Label yes = new Label();
+            Label end = new Label();
+            this._mv.visitJumpInsn(jump, yes);
+            this._mv.visitInsn(ICONST_0);
+            this._mv.visitJumpInsn(GOTO, end);
+            this._mv.visitLabel(yes);
+            this._mv.visitInsn(ICONST_1);
+            this._mv.visitLabel(end);
+        }
+
+        /**
+         * СȽ,ֱ֮ӱȽ,CompiledExpress.compare
+         */
+        private int relation(Node left, Node right, int jump, int intJump) {
+            int kind1 = this.kindOf(left);
+            int kind2 = this.kindOf(right);
+            if (kind1 == K_INT && kind2 == K_INT) {
+                this.emit(left);
+                this.emit(right);
+                this.condition(intJump);
+            } else if (isIntegral(kind1) && isIntegral(kind2)) {
+                this.widen(this.emit(left), K_LONG);
+                this.widen(this.emit(right), K_LONG);
+                this._mv.visitInsn(LCMP);
+                this.condition(jump);
+            } else {
+                box(this._mv, this.emit(left));
+                box(this._mv, this.emit(right));
+                this._mv.visitMethodInsn(INVOKESTATIC, BASE, "compare",
+                        "(Ljava/lang/Object;Ljava/lang/Object;)I", false);
+                this.condition(jump);
+            }
+            return K_BOOL;
+        }
+
+        /**
+         * ȱȽ,jumpΪʱ(IFNE)߲ʱ(IFEQ)Ϊtrueתָ
+         */
+        private int equality(Node left, Node right, int jump) {
+            int kind1 = this.kindOf(left);
+            int kind2 = this.kindOf(right);
+            if (isIntegral(kind1) && isIntegral(kind2)) {
+                int kind = kind1 == K_LONG || kind2 == K_LONG ? K_LONG : K_INT;
+                this.widen(this.emit(left), kind);
+                this.widen(this.emit(right), kind);
+                if (kind == K_LONG) {
+                    this._mv.visitInsn(LCMP);
+                    // LCMPʱΪ0,equalķֵ෴
+                    this.condition(jump == IFNE ? IFEQ : IFNE);
+                } else {
+                    this.condition(jump == IFNE ? IF_ICMPEQ : IF_ICMPNE);
+                }
+            } else if (kind1 == K_BOOL && kind2 == K_BOOL) {
+                this.emit(left);
+                this.emit(right);
+                this.condition(jump == IFNE ? IF_ICMPEQ : IF_ICMPNE);
+            } else {
+                box(this._mv, this.emit(left));
+                box(this._mv, this.emit(right));
+                this._mv.visitMethodInsn(INVOKESTATIC, BASE, "equal",
+                        "(Ljava/lang/Object;Ljava/lang/Object;)Z", false);
+                this.condition(jump);
+            }
+            return K_BOOL;
+        }
+
+        /**
+         * ɲֵ,ǲ͵ĲתΪBoolean,Ͳʱ׳ClassCastException
+         */
+        private void bool(Node node) {
+            int kind = this.emit(node);
+            if (kind == K_BOOL)
+                return;
+            box(this._mv, kind);
+            this._mv.visitTypeInsn(CHECKCAST, "java/lang/Boolean");
+            this._mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Boolean", "booleanValue", "()Z", false);
+        }
+
+        /**
+         * ߼,·ֵ,shortcutΪʱתָ
+         * &&Ϊfalse(IFEQ)ʱ·,||Ϊtrue(IFNE)ʱ·
+         */
+        private int logic(Node left, Node right, int shortcut) {
+            Label done = new Label();
+            Label end = new Label();
+            this.bool(left);
+            this._mv.visitJumpInsn(shortcut, done);
+            this.bool(right);
+            this._mv.visitJumpInsn(GOTO, end);
+            this._mv.visitLabel(done);
+            this._mv.visitInsn(shortcut == IFEQ ? ICONST_0 : ICONST_1);
+            this._mv.visitLabel(end);
+            return K_BOOL;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.jurassic.core.compiler.express;
+
+import com.jurassic.core.progress.handler.pin.ObjectPin;
+import com.jurassic.core.progress.handler.pin.Pin;
+import com.jurassic.core.progress.handler.pin.express.Express;
+
+import java.math.BigDecimal;
+
+/**
+ * ʽŻ
+ * ڽ֮,ɹ֮ܽǰԱʽŻ:
+ * 1. ۵,ֻгѧ,ϵ߼ڱʱ,ԭʱ
+ * 2. ߼·,&&||ΪʱֱȷֻҲ
+ * 3. ӱʽ,ͬһܽʵ,CompilerkeyOfĽϲ
+ * ʽһμ󻺴,޸ıõĶ,ԺϲķΧCompiler޶:
+ * һֻͬһʽںϲ,ҶӶǳ̲Ҳȡڲݵкϲ
+ * ظsizeΪӱʽ
+ * Ż޸ԭıʽ,ͬһExpressElementظ
+ *
+ * @author yzhu
+ */
+public class ExpressOptimizer {
+
+    private int _foldedNum;// ۵Ľڵ
+    private int _shortcutNum;// ߼·Ľڵ
+    private int _sharedNum;// ӱʽĽڵ
+    private int _hoistedNum;// ظsizeĽڵ
+
+    /**
+     * Żʽ,Żĸ
+     */
+    public Node optimize(Node node) {
+        return this.fold(copy(node));
+    }
+
+    private static Node copy(Node node) {
+        if (node instanceof DataNode)
+            return new DataNode(((DataNode) node).getData());
+        ExpressNode expressNode = (ExpressNode) node;
+        ExpressNode newNode = new ExpressNode();
+        newNode.setOperator(expressNode.getOperator());
+        newNode.setChilds(copyChilds(node));
+        return newNode;
+    }
+
+    private static Node[] copyChilds(Node node) {
+        int num = 0;
+        for (Node child = node.getFirstChild(); child != null; child = child.getBrother())
+            num++;
+        Node[] childs = new Node[num];
+        int i = 0;
+        for (Node child = node.getFirstChild(); child != null; child = child.getBrother())
+            childs[i++] = copy(child);
+        return childs;
+    }
+
+    /**
+     * Ե۵
+     */
+    private Node fold(Node node) {
+        if (!(node instanceof ExpressNode))
+            return node;
+        ExpressNode expressNode = (ExpressNode) node;
+        int num = 0;
+        for (Node child = node.getFirstChild(); child != null; child = child.getBrother())
+            num++;
+        Node[] childs = new Node[num];
+        boolean constant = true;
+        int i = 0;
+        for (Node child = node.getFirstChild(); child != null; child = child.getBrother()) {
+            childs[i] = this.fold(child);
+            constant &= isConstant(childs[i]);
+            i++;
+        }
+        for (Node child : childs)
+            child._nextBrother = null;
+        node.setChilds(childs);
+        if (!ExpressCompiler.isCompilable(node))
+            return node;
+        if (constant) {
+            Object data = evaluate(expressNode.getOperator(), childs);
+            if (data != null) {
+                this._foldedNum += childs.length;
+                return new DataNode(data);
+            }
+            return node;
+        }
+        Operator operator = expressNode.getOperator();
+        if ((operator == Operator.AND || operator == Operator.OR)
+                && isConstant(childs[0]) && ((DataNode) childs[0]).getData() instanceof Boolean) {
+            boolean left = (Boolean) ((DataNode) childs[0]).getData();
+            if (left == (operator == Operator.OR)) {
+                // false && x, true || x,Ҳᱻ
+                this._shortcutNum += 1 + count(childs[1]);
+                return new DataNode(left);
+            } else if (isBoolean(childs[1])) {
+                // true && x, false || x,Ҳ
+                this._shortcutNum += 2;
+                childs[1]._parent = null;
+                return childs[1];
+            }
+        }
+        return node;
+    }
+
+    /**
+     * ʹýִе㳣ʽ,ʱ򷵻null
+     */
+    private static Object evaluate(Operator operator, Node[] childs) {
+        try {
+            Express express = (Express) Express.expressTbl.get(operator).newInstance();
+            Pin[] pins = new Pin[childs.length];
+            for (int i = 0; i < pins.length; i++) {
+                pins[i] = new ObjectPin(((DataNode) childs[i]).getData());
+            }
+            express.setPins(pins);
+            Object data = express.getData();
+            if (data instanceof Integer || data instanceof Long || data instanceof BigDecimal
+                    || data instanceof Boolean || data instanceof String)
+                return data;
+        } catch (Throwable ignored) {
+        }
+        return null;
+    }
+
+    private static boolean isConstant(Node node) {
+        return node instanceof DataNode && !(((DataNode) node).getData() instanceof Variable);
+    }
+
+    /**
+     * һǲֵĽڵ
+     */
+    private static boolean isBoolean(Node node) {
+        if (node instanceof DataNode)
+            return ((DataNode) node).getData() instanceof Boolean;
+        switch (((ExpressNode) node).getOperator()) {
+            case GREAT: case GREATEQUAL: case LESS: case LESSEQUAL:
+            case EQUAL: case NOTEQUAL:
+            case AND: case OR: case NOT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Ľڵ
+     */
+    private static int count(Node node) {
+        int num = 1;
+        for (Node child = node.getFirstChild(); child != null; child = child.getBrother())
+            num += count(child);
+        return num;
+    }
+
+    /**
+     * Ľṹ,ںϲӱʽ
+     * ˱ʽڲܽŵֻıʽЧ,nullʾܺϲ
+     * @param localNum ʽڲĹܽ
+     */
+    public static String keyOf(Node node, int localNum) {
+        StringBuilder key = new StringBuilder();
+        return appendKey(node, localNum, key) ? key.toString() : null;
+    }
+
+    private static boolean appendKey(Node node, int localNum, StringBuilder key) {
+        if (node instanceof DataNode) {
+            Object data = ((DataNode) node).getData();
+            if (data instanceof Variable) {
+                Variable variable = (Variable) data;
+                if (variable.getIndex() == -1) {
+                    for (int i = 0; i < localNum; i++) {
+                        if (variable.getRefName().equals("" + i))
+                            return false;
+                    }
+                }
+                key.append(variable);
+            } else {
+                String text = data.toString();
+                key.append(data.getClass().getSimpleName()).append(':')
+                        .append(text.length()).append(':').append(text);
+            }
+            return true;
+        }
+        key.append(((ExpressNode) node).getOperator().name()).append('(');
+        for (Node child = node.getFirstChild(); child != null; child = child.getBrother()) {
+            if (!appendKey(child, localNum, key))
+                return false;
+            key.append(',');
+        }
+        key.append(')');
+        return true;
+    }
+
+    /**
+     * ¼һϲĹӱʽ
+     */
+    public void share(Node node) {
+        if (((ExpressNode) node).getOperator() == Operator.SIZE)
+            this._hoistedNum += count(node);
+        else
+            this._sharedNum += count(node);
+    }
+
+    public int getFoldedNum() {
+        return this._foldedNum;
+    }
+
+    public int getShortcutNum() {
+        return this._shortcutNum;
+    }
+
+    public int getSharedNum() {
+        return this._sharedNum;
+    }
+
+    public int getHoistedNum() {
+        return this._hoistedNum;
+    }
+
+    /**
+     * ŻĽڵ
+     */
+    public int getEliminatedNum() {
+        return this._foldedNum + this._shortcutNum + this._sharedNum + this._hoistedNum;
+    }
+
+    public String toString() {
+        return "folded=" + this._foldedNum + ", shortcut=" + this._shortcutNum
+                + ", shared=" + this._sharedNum + ", hoisted=" + this._hoistedNum;
+    }
+}
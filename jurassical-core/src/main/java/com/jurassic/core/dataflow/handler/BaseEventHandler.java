@@ -2,6 +2,7 @@ package com.jurassic.core.dataflow.handler;
 
 import com.jurassic.core.dataflow.filter.Filter;
 import com.jurassic.core.event.Event;
+import com.jurassic.core.event.EventPool;
 import com.jurassic.core.handler.AbstractHandler;
 
 import java.util.ArrayList;
@@ -18,15 +19,36 @@ public abstract class BaseEventHandler<T extends Event> extends AbstractHandler
     protected List<Filter> _beforeFilters;// handler֮ǰĹ
     protected List<Filter> _afterFilters;// handler֮Ĺ
     protected ThreadLocal<List<Event>> _outputEvents = new ThreadLocal<>();// ¼
+    private volatile boolean _legacyOutput = false;// ǷʹùaddOutputEventύ¼
+    protected EventPool<T> _eventPool;// ¼,ûп¼صʱΪnull
 
     public BaseEventHandler() {
         super();
     }
 
+    /**
+     * жǷʵhandleһ,ʱУ,ضûʵֵĴܲ
+     */
+    public abstract boolean isHandleImplemented();
+
+    /**
+     * жǷ񸲸basehandle
+     */
+    protected boolean overridesHandle(Class<?> base, Class<?>... paramTypes) {
+        try {
+            return this.getClass().getMethod("handle", paramTypes).getDeclaringClass() != base;
+        } catch (NoSuchMethodException ex) {
+            return false;
+        }
+    }
+
     /**
      * ӴһҪ¼¼
+     * Ҫ̱߳Ĳ,µĴӦʹhandleEmitter
      */
     public void addOutputEvent(Event event) {
+        if (!this._legacyOutput)
+            this._legacyOutput = true;
         List<Event> outputs = this._outputEvents.get();
         if (outputs == null) {
             outputs = new ArrayList<>();
@@ -35,6 +57,14 @@ public abstract class BaseEventHandler<T extends Event> extends AbstractHandler
         outputs.add(event);
     }
 
+    /**
+     * жϴǷʹùaddOutputEvent
+     * ûʹùĴ,߲Ҫ̱߳е¼
+     */
+    public boolean hasLegacyOutputEvents() {
+        return this._legacyOutput;
+    }
+
     /**
      * ô¼
      */
@@ -90,8 +120,8 @@ public abstract class BaseEventHandler<T extends Event> extends AbstractHandler
      */
     public Event beforeHandler(Event event) {
         Event tmp = event;
-        for (Filter filter : this._beforeFilters) {
-            tmp = filter.filter(tmp);
+        for (int i = 0; i < this._beforeFilters.size(); i++) {
+            tmp = this._beforeFilters.get(i).filter(tmp);
             if (tmp == null)// ĳ¼˵
                 return null;
         }
@@ -104,8 +134,8 @@ public abstract class BaseEventHandler<T extends Event> extends AbstractHandler
      */
     public Event afterHandler(Event event) {
         Event tmp = event;
-        for (Filter filter : this._afterFilters) {
-            tmp = filter.filter(tmp);
+        for (int i = 0; i < this._afterFilters.size(); i++) {
+            tmp = this._afterFilters.get(i).filter(tmp);
             if (tmp == null)// ĳ¼˵
                 return null;
         }
@@ -115,6 +145,49 @@ public abstract class BaseEventHandler<T extends Event> extends AbstractHandler
     /**
      * Ӧ¼
      * һЩⷢ¼
+     * ¼صĴӦͨallocateEvent¼
      */
     public abstract Event createEvent(Object[] params);
+
+    /**
+     * ¼
+     * ػ¼staticsͳƺ󱻻,fire֮ٳ¼
+     * ҪʵnewEvent,¼Ҫclearҵ,ûʵnewEventĴڲʱʧ
+     */
+    public void enableEventPool(int capacity) {
+        if (!this.overridesNewEvent())
+            throw new IllegalStateException(
+                    "handler[" + this.getHandlerKey() + "] not implement newEvent for event pool");
+        this._eventPool = new EventPool<>(this::newEvent, capacity);
+    }
+
+    private boolean overridesNewEvent() {
+        for (Class<?> clz = this.getClass(); clz != BaseEventHandler.class; clz = clz.getSuperclass()) {
+            try {
+                clz.getDeclaredMethod("newEvent");
+                return true;
+            } catch (NoSuchMethodException ignored) {
+            }
+        }
+        return false;
+    }
+
+    public boolean isEventPooled() {
+        return this._eventPool != null;
+    }
+
+    /**
+     * һյ¼,¼ص
+     */
+    protected T newEvent() {
+        throw new UnsupportedOperationException(
+                "handler[" + this.getHandlerKey() + "] not support event pool");
+    }
+
+    /**
+     * һյ¼,¼صʱӳз
+     */
+    protected T allocateEvent() {
+        return this._eventPool != null ? this._eventPool.allocate() : this.newEvent();
+    }
 }
@@ -18,5 +18,25 @@ public abstract class BatchEventHandler<T extends Event> extends BaseEventHandle
         this._powerOfBuffer = Constant.DRPT_DATA_SIZE_POWER;
     }
 
-    public abstract void handle(List<T> events) throws Throwable;
+    public boolean isHandleImplemented() {
+        return this.overridesHandle(BatchEventHandler.class, List.class)
+                || this.overridesHandle(BatchEventHandler.class, List.class, Emitter.class);
+    }
+
+    /**
+     * ¼
+     * ¼ͨaddOutputEventύ
+     */
+    public void handle(List<T> events) throws Throwable {
+        throw new UnsupportedOperationException(
+                "handler[" + this.getHandlerKey() + "] not implement handle");
+    }
+
+    /**
+     * ¼,¼ͨemitterύ
+     * Ĭϵhandle(events),µĴӦǸ÷
+     */
+    public void handle(List<T> events, Emitter emitter) throws Throwable {
+        this.handle(events);
+    }
 }
@@ -0,0 +1,18 @@
+package com.jurassic.core.dataflow.handler;
+
+import com.jurassic.core.event.Event;
+
+/**
+ * ¼ķ
+ * ɹڵôʱ,ͨύ¼
+ * Ļڹ߲ظʹ,Ҫ̱߳Ĳ
+ *
+ * @author yzhu
+ */
+public interface Emitter {
+
+    /**
+     * ύһ¼,ɺɹͳһ
+     */
+    void emit(Event event);
+}
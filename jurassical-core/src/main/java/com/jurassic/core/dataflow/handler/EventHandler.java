@@ -17,5 +17,25 @@ public abstract class EventHandler<T extends Event> extends BaseEventHandler<T>
         this._powerOfBuffer = Constant.DRPT_DATA_SIZE_POWER;
     }
 
-    public abstract void handle(T event) throws Throwable;
+    public boolean isHandleImplemented() {
+        return this.overridesHandle(EventHandler.class, Event.class)
+                || this.overridesHandle(EventHandler.class, Event.class, Emitter.class);
+    }
+
+    /**
+     * ¼
+     * ¼ͨaddOutputEventύ
+     */
+    public void handle(T event) throws Throwable {
+        throw new UnsupportedOperationException(
+                "handler[" + this.getHandlerKey() + "] not implement handle");
+    }
+
+    /**
+     * ¼,¼ͨemitterύ
+     * Ĭϵhandle(event),µĴӦǸ÷
+     */
+    public void handle(T event, Emitter emitter) throws Throwable {
+        this.handle(event);
+    }
 }
@@ -7,7 +7,9 @@ import com.jurassic.core.time.TimeStaticsInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.*;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * ¼ִϢͳƴ
@@ -56,23 +58,16 @@ public class StaticsHandler extends BatchEventHandler<Event> {
     }
 
     public void handle(List<Event> events) throws Throwable {
-        // ¼keyз
-        Map<String, List<Event>> eventGroup = new HashMap<>();
-        // ͳÿ¼ִϢ
-        for (Event event : events) {
+        // ͳÿ¼ִϢ,Ҫkey
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
             String eventKey = event.getEventKey();
-            List<Event> list =
-                    eventGroup.computeIfAbsent(eventKey, k -> new ArrayList<>());
-            list.add(event);
-        }
-        for (String eventKey : eventGroup.keySet()) {
             TimeStaticsInfo statics = this._statics.get(eventKey);
             if (statics == null) {
                 statics = new TimeStaticsInfo();
                 this._statics.put(eventKey, statics);
             }
-            // ¼ִϢӽͳϢ
-            statics.finishEvent(eventGroup.get(eventKey));
+            statics.finishEvent(event);
         }
         long time = System.currentTimeMillis();
         if (time > this._printTime + 10000) {
@@ -1,6 +1,7 @@
 package com.jurassic.core.dataflow.worker;
 
 import com.jurassic.core.bus.EventBus;
+import com.jurassic.core.bus.Route;
 import com.jurassic.core.bus.impl.EBus;
 import com.jurassic.core.dataflow.handler.BatchEventHandler;
 import com.jurassic.core.event.Event;
@@ -26,13 +27,21 @@ public class BatchEventWorker<T extends Event> implements EventHandler<EventWrap
 
     private BatchEventHandler<T> _handler;// ҵ
     private final EventBus _eventBus;// 
+    private final Route _staticsRoute;// statics·
 
     private final List<EventWrapper<T>> _wrapperBuf = new ArrayList<>();// 洢¼װ
     private final List<T> _eventBuf = new ArrayList<>();// ¼
+    private final List<T> _filterBuf = new ArrayList<>();// ˺Ҫ¼
+    private final List<T> _scheduleBuf = new ArrayList<>();// Ҫµȵ¼
+    private final OutputBuffer _outputs = new OutputBuffer();// ¼
+    private final Rescheduler _rescheduler;// ¼µ
 
     public BatchEventWorker() {
         this._eventBus = GlobalInstRegisterTable.getInst(
                 EventBus.GLOBAL_KEY, EventBus.class);
+        this._staticsRoute = this._eventBus.route(
+                null, EBus.COMPONENT_KEY_STATICS);
+        this._rescheduler = new Rescheduler(this._eventBus);
     }
 
     /**
@@ -48,20 +57,24 @@ public class BatchEventWorker<T extends Event> implements EventHandler<EventWrap
         if (!this._handler.getHandlerKey().equals(EBus.COMPONENT_KEY_STATICS)) {
             try {
                 // 4ĬϵĴpackageKeyΪգύĴ
-                this._eventBus.fire(null, EBus.COMPONENT_KEY_STATICS, event);
+                this._eventBus.fire(this._staticsRoute, event);
             } catch (Throwable ex) {
                 logger.warn(ex.getMessage());
             }
+        } else {
+            // ͳ¼ڵһ,ػ¼
+            event.release();
         }
     }
 
     @SuppressWarnings("unchecked")
     private void doBatchEvents() {
         Throwable err = null;
-        List<T> filterEvents = null;// 洢Ҫ¼
+        List<T> dealEvents = this._eventBuf;// Ҫ¼
         if (this._handler.hasBeforeFilters()) {
-            filterEvents = new ArrayList<>();
-            for (T event : this._eventBuf) {
+            dealEvents = this._filterBuf;
+            for (int i = 0; i < this._eventBuf.size(); i++) {
+                T event = this._eventBuf.get(i);
                 // ζÿһҪ¼Filter
                 Event filterEvent = this._handler.beforeHandler(event);
                 if (filterEvent != null) {
@@ -69,87 +82,68 @@ public class BatchEventWorker<T extends Event> implements EventHandler<EventWrap
                         // Filter¼˱仯
                         // ¼ת˺¼
                         try {
-                            this._eventBus.fire(
-                                    filterEvent.getPackageKey(),
-                                    filterEvent.getEventKey(),
-                                    filterEvent);
+                            this._eventBus.fire(filterEvent);
                         } catch (Throwable ex) {
                             logger.warn(ex.getMessage());
                         }
                     } else {
                         // ¼ûз仯
-                        filterEvents.add((T) filterEvent);
+                        dealEvents.add((T) filterEvent);
                     }
                 }
             }
         }
-        List<T> dealEvents = filterEvents != null ? filterEvents : this._eventBuf;
         try {
-            if (filterEvents != null) {
-                // ִй˴˺¼
-                if (!filterEvents.isEmpty()) {
-                    this._handler.handle(filterEvents);
-                }
-            } else {
-                // ԭ¼
-                this._handler.handle(this._eventBuf);
+            // ִй˴˺¼ԭ¼
+            if (!dealEvents.isEmpty()) {
+                this._handler.handle(dealEvents, this._outputs);
+                this._outputs.collect(this._handler);
+                this._outputs.retainForwarded(dealEvents);
             }
         } catch (Throwable ex) {
             err = ex.getCause() != null ? ex.getCause() : ex;
             logger.error(ex.getMessage(), ex);
         }
+        if (!this._handler.getHandlerKey().equals(EBus.COMPONENT_KEY_STATICS)) {
+            // ǰҪµȵ¼,ִеĳػ¼staticsͳƺѾ
+            for (int i = 0; i < dealEvents.size(); i++) {
+                T _event = dealEvents.get(i);
+                if (_event.getScheduleType() != Event.SINGLE)
+                    this._scheduleBuf.add(_event);
+            }
+        }
         // ԭе¼
-        for (EventWrapper<T> _wrapper : this._wrapperBuf) {
-            this.finish(_wrapper, err);
+        for (int i = 0; i < this._wrapperBuf.size(); i++) {
+            this.finish(this._wrapperBuf.get(i), err);
         }
-        if (!this._handler.getHandlerKey().equals(EBus.COMPONENT_KEY_STATICS)) {
+        if (!this._scheduleBuf.isEmpty()) {
             // Դ¼þǷҪµִи¼
-            for (T _event : dealEvents) {
-                if (_event.getScheduleType() == Event.RETRY_ON_ERROR) {
-                    if (err != null) {
-                        // ʧִУµȸ¼
-                        this._eventBus.schedule(_event);
-                    }
-                } else if (_event.getScheduleType() == Event.MULTIPLE) {
-                    // εȣӱִн
-                    int retryNum = _event.getRetryNum();
-                    if (retryNum > 0) {
-                        // Լм1ֱ0ִ
-                        _event.setRetryNum(--retryNum);
-                        this._eventBus.schedule(_event);
-                    } else if (retryNum == -1) {
-                        // ڴΪ-1ʾԶִȥ
-                        this._eventBus.schedule(_event);
-                    }
-                }
+            for (int i = 0; i < this._scheduleBuf.size(); i++) {
+                T _event = this._scheduleBuf.get(i);
+                this._rescheduler.reschedule(_event, _event.getScheduleType(), err);
             }
         }
         this._eventBuf.clear();
         this._wrapperBuf.clear();
+        this._filterBuf.clear();
+        this._scheduleBuf.clear();
         if (err != null) {
             // ¼֮ǰʲôᱻ
             this._handler.clearOutputEvents();
+            this._outputs.clear();
             return;
         }
         // ¼
-        List<Event> outputEvents = this._handler.getOutputEvents();
-        if (outputEvents != null && !outputEvents.isEmpty()) {
-            for (Event outputEvent : outputEvents) {
-                try {
-                    if (this._handler.hasAfterFilters()) {
-                        outputEvent = this._handler.afterHandler(outputEvent);
-                    }
-                    if (outputEvent != null) {
-                        this._eventBus.fire(
-                                outputEvent.getPackageKey(),
-                                outputEvent.getEventKey(),
-                                outputEvent);
-                    }
-                } catch (Throwable ex) {
-                    logger.warn(ex.getMessage(), ex);
-                }
+        if (!this._outputs.isEmpty()) {
+            this._outputs.filter(this._handler);
+            try {
+                // ¼,ͬĿ¼ֻڴһ
+                this._eventBus.fireAll(this._outputs);
+            } catch (Throwable ex) {
+                logger.warn(ex.getMessage(), ex);
+            } finally {
+                this._outputs.clear();
             }
-            this._handler.clearOutputEvents();
         }
     }
 
@@ -174,5 +168,6 @@ public class BatchEventWorker<T extends Event> implements EventHandler<EventWrap
     @SuppressWarnings("unchecked")
     public void setHandler(AbstractHandler handler) {
         this._handler = (BatchEventHandler<T>) handler;
+        this._rescheduler.setHandler(handler);
     }
 }
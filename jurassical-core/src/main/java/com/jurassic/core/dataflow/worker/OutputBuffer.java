@@ -0,0 +1,102 @@
+package com.jurassic.core.dataflow.worker;
+
+import com.jurassic.core.dataflow.handler.BaseEventHandler;
+import com.jurassic.core.dataflow.handler.Emitter;
+import com.jurassic.core.event.Event;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * ߵ¼
+ * ÿ߳һ,ÿδɺظʹ
+ *
+ * @author yzhu
+ */
+public class OutputBuffer extends ArrayList<Event> implements Emitter {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutputBuffer.class);
+
+    private final IdentityHashMap<Event, Boolean> _pooledInputs = new IdentityHashMap<>();// гػ¼
+
+    public void emit(Event event) {
+        this.add(event);
+    }
+
+    /**
+     * ϲͨaddOutputEventύ¼
+     */
+    public void collect(BaseEventHandler<?> handler) {
+        if (!handler.hasLegacyOutputEvents())
+            return;
+        List<Event> events = handler.getOutputEvents();
+        if (events != null) {
+            for (int i = 0; i < events.size(); i++) {
+                this.add(events.get(i));
+            }
+            events.clear();
+        }
+    }
+
+    /**
+     * ¼Ϊ¼תʱӳػ¼ü
+     * ¼staticsͳƺͷһ,תȥ¼δɺͷһ
+     * Ҫڽ¼֮ǰ,ûзȥ¼ٻ,gc
+     */
+    public void retainForwarded(Event input) {
+        if (!input.isPooled())
+            return;
+        for (int i = 0; i < this.size(); i++) {
+            if (this.get(i) == input)
+                input.retain(1);
+        }
+    }
+
+    /**
+     * ¼Ϊ¼תʱü
+     */
+    public void retainForwarded(List<? extends Event> inputs) {
+        if (this.isEmpty())
+            return;
+        for (int i = 0; i < inputs.size(); i++) {
+            Event input = inputs.get(i);
+            if (input.isPooled())
+                this._pooledInputs.put(input, Boolean.TRUE);
+        }
+        if (this._pooledInputs.isEmpty())
+            return;
+        for (int i = 0; i < this.size(); i++) {
+            Event output = this.get(i);
+            if (this._pooledInputs.containsKey(output))
+                output.retain(1);
+        }
+        this._pooledInputs.clear();
+    }
+
+    /**
+     * ʹôafter Filterԭع¼,˵¼ӻƳ
+     */
+    public void filter(BaseEventHandler<?> handler) {
+        if (!handler.hasAfterFilters())
+            return;
+        int size = this.size();
+        int num = 0;
+        for (int i = 0; i < size; i++) {
+            Event event = null;
+            try {
+                event = handler.afterHandler(this.get(i));
+            } catch (Throwable ex) {
+                logger.warn(ex.getMessage(), ex);
+            }
+            if (event != null) {
+                this.set(num++, event);
+            }
+        }
+        while (this.size() > num) {
+            this.remove(this.size() - 1);
+        }
+    }
+}
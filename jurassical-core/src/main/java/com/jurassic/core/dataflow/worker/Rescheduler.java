@@ -0,0 +1,113 @@
+package com.jurassic.core.dataflow.worker;
+
+import com.jurassic.core.bus.EventBus;
+import com.jurassic.core.event.Event;
+import com.jurassic.core.event.RetryPolicy;
+import com.jurassic.core.handler.AbstractHandler;
+import com.jurassic.core.handler.RetryBudget;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ߵ¼µ
+ * ¼ĵ,ԲԺʹԤǷٴεȴɵ¼
+ * þ¼תõŴ
+ * ػ¼ü:ÿִнstaticsͷһ,ÿµһ,
+ * Ƚ¼Ϊִ,һͷŵʱ
+ *
+ * @author yzhu
+ */
+public class Rescheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(Rescheduler.class);
+
+    private final EventBus _eventBus;// 
+    private RetryBudget _retryBudget;// Ԥ
+    private String _deadLetter;// Ŵ
+
+    public Rescheduler(EventBus eventBus) {
+        this._eventBus = eventBus;
+    }
+
+    public void setHandler(AbstractHandler handler) {
+        this._retryBudget = handler.getRetryBudget();
+        this._deadLetter = handler.getDeadLetter();
+    }
+
+    /**
+     * ¼ɺµ
+     * scheduleTypeҪ¼֮ǰ¼,ִеĳػ¼staticsͳƺѾ
+     */
+    public void reschedule(Event event, int scheduleType, Throwable err) {
+        if (scheduleType == Event.RETRY_ON_ERROR) {
+            if (err == null) {
+                // ִгɹ,
+                event.clearRetry();
+                this.complete(event);
+                return;
+            }
+            long delay = event.nextRetryDelay();
+            if (delay != RetryPolicy.STOP
+                    && (this._retryBudget == null || this._retryBudget.tryAcquire())) {
+                // ʧִУµȸ¼
+                event.retain(1);
+                this._eventBus.schedule(event, delay);
+            } else {
+                this.deadLetter(event, err);
+            }
+        } else if (scheduleType == Event.MULTIPLE) {
+            // εȣӱִн
+            int retryNum = event.getRetryNum();
+            if (retryNum > 0) {
+                // ȴ0Ŀٴεȣ
+                event.setRetryNum(--retryNum);
+                event.retain(1);
+                this._eventBus.schedule(event);
+            } else if (retryNum == -1) {
+                // ڴΪ-1ʾԶִȥ
+                event.retain(1);
+                this._eventBus.schedule(event);
+            } else {
+                this.complete(event);
+            }
+        }
+    }
+
+    /**
+     * ػ¼ĵ
+     * ִstaticsеͷſѾ,ʱΪǵִûл,
+     * һ,Ϊִ֮ͷ,һͷŻ¼
+     */
+    private void complete(Event event) {
+        if (!event.isPooled())
+            return;
+        event.retain(1);
+        event.setScheduleType(Event.SINGLE);
+        event.release();
+    }
+
+    /**
+     * þ¼תΪִ,תŴ,ûŴֱӶ
+     */
+    private void deadLetter(Event event, Throwable err) {
+        event.clearRetry();
+        if (this._deadLetter == null) {
+            logger.warn("event " + event.getEventKey() + " retry exhausted, drop: "
+                    + err.getMessage());
+            this.complete(event);
+            return;
+        }
+        // Ŵһ,ٸΪִ,
+        // ִ֤кŴstaticsͷ֮Żճػ¼
+        event.retain(1);
+        event.setScheduleType(Event.SINGLE);
+        event.reset();
+        try {
+            this._eventBus.fire(event.getPackageKey(), this._deadLetter, event);
+        } catch (Throwable ex) {
+            event.release();
+            logger.warn("event " + event.getEventKey() + " not fire to dead letter "
+                    + this._deadLetter + ": " + ex.getMessage());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.jurassic.core.dataflow.worker;
 
 import com.jurassic.core.bus.EventBus;
+import com.jurassic.core.bus.Route;
 import com.jurassic.core.bus.impl.EBus;
 import com.jurassic.core.dataflow.handler.EventHandler;
 import com.jurassic.core.event.Event;
@@ -11,8 +12,6 @@ import com.jurassic.core.processor.WorkHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
-
 /**
  * Ĺ߳
  *
@@ -22,6 +21,9 @@ public class SingleEventWorker<T extends Event> implements WorkHandler<EventWrap
 
     private EventHandler<T> _handler;// 
     private final EventBus _eventBus;// 
+    private final Route _staticsRoute;// statics·
+    private final OutputBuffer _outputs = new OutputBuffer();// ¼
+    private final Rescheduler _rescheduler;// ¼µ
 
     protected static final Logger logger
             = LoggerFactory.getLogger(SingleEventWorker.class);
@@ -29,6 +31,9 @@ public class SingleEventWorker<T extends Event> implements WorkHandler<EventWrap
     public SingleEventWorker() {
         this._eventBus = GlobalInstRegisterTable.getInst(
                 EventBus.GLOBAL_KEY, EventBus.class);
+        this._staticsRoute = this._eventBus.route(
+                null, EBus.COMPONENT_KEY_STATICS);
+        this._rescheduler = new Rescheduler(this._eventBus);
     }
 
     /**
@@ -43,7 +48,7 @@ public class SingleEventWorker<T extends Event> implements WorkHandler<EventWrap
         wrapper.reset();
         try {
             // 4ĬϵĴpackageKeyΪգύĴ
-            this._eventBus.fire(null, EBus.COMPONENT_KEY_STATICS, event);
+            this._eventBus.fire(this._staticsRoute, event);
         } catch (Throwable ex) {
             logger.warn(ex.getMessage());
         }
@@ -71,10 +76,7 @@ public class SingleEventWorker<T extends Event> implements WorkHandler<EventWrap
                     // ¼ת˺¼
                     this.finish(wrapper, null);
                     try {
-                        this._eventBus.fire(
-                                filterEvent.getPackageKey(),
-                                filterEvent.getEventKey(),
-                                filterEvent);
+                        this._eventBus.fire(filterEvent);
                     } catch (Throwable ex) {
                         logger.warn(ex.getMessage());
                     }
@@ -83,57 +85,37 @@ public class SingleEventWorker<T extends Event> implements WorkHandler<EventWrap
             }
         }
         try {
-            this._handler.handle((T)filterEvent);
+            this._handler.handle((T)filterEvent, this._outputs);
+            this._outputs.collect(this._handler);
+            this._outputs.retainForwarded(event);
         } catch (Throwable ex) {
             err = ex.getCause() != null ? ex.getCause() : ex;
             logger.error(ex.getMessage(), ex);
         }
+        // ǰ¼,ִеĳػ¼staticsͳƺѾ
+        int scheduleType = event.getScheduleType();
         // event¼
         this.finish(wrapper, err);
 
         // ¼ǷҪµִи¼
-        if (event.getScheduleType() == Event.RETRY_ON_ERROR) {
-            if (err != null) {
-                // ʧִУµȸ¼
-                this._eventBus.schedule(event);
-            }
-        } else if (event.getScheduleType() == Event.MULTIPLE) {
-            // εȣӱִн
-            int retryNum = event.getRetryNum();
-            if (retryNum > 0) {
-                // ȴ0Ŀٴεȣ
-                event.setRetryNum(--retryNum);
-                this._eventBus.schedule(event);
-            } else if (retryNum == -1) {
-                // ڴΪ-1ʾԶִȥ
-                this._eventBus.schedule(event);
-            }
-        }
+        this._rescheduler.reschedule(event, scheduleType, err);
         if (err != null) {
             // ¼֮ǰʲôᱻ
             this._handler.clearOutputEvents();
+            this._outputs.clear();
             return;
         }
         // ¼
-        List<Event> outputEvents = this._handler.getOutputEvents();
-        if (outputEvents != null && !outputEvents.isEmpty()) {
-            for (Event outputEvent : outputEvents) {
-                try {
-                    // ¼й
-                    if (this._handler.hasAfterFilters()) {
-                        outputEvent = this._handler.afterHandler(outputEvent);
-                    }
-                    if (outputEvent != null) {
-                        this._eventBus.fire(
-                                outputEvent.getPackageKey(),
-                                outputEvent.getEventKey(),
-                                outputEvent);
-                    }
-                } catch (Throwable ex) {
-                    logger.warn(ex.getMessage(), ex);
-                }
+        if (!this._outputs.isEmpty()) {
+            // ¼й
+            this._outputs.filter(this._handler);
+            try {
+                this._eventBus.fireAll(this._outputs);
+            } catch (Throwable ex) {
+                logger.warn(ex.getMessage(), ex);
+            } finally {
+                this._outputs.clear();
             }
-            this._handler.clearOutputEvents();
         }
     }
 
@@ -148,5 +130,6 @@ public class SingleEventWorker<T extends Event> implements WorkHandler<EventWrap
     @SuppressWarnings("unchecked")
     public void setHandler(AbstractHandler handler) {
         this._handler = (EventHandler<T>) handler;
+        this._rescheduler.setHandler(handler);
     }
 }
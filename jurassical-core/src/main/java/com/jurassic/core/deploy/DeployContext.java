@@ -6,6 +6,7 @@ import com.jurassic.core.annotation.Configuration;
 import com.jurassic.core.annotation.Param;
 import com.jurassic.core.bus.Constant;
 import com.jurassic.core.bus.EventBus;
+import com.jurassic.core.bus.Route;
 import com.jurassic.core.classloader.ComponentClassLoader;
 import com.jurassic.core.classloader.JurassicRootClassLoader;
 import com.jurassic.core.compiler.element.ProgressElement;
@@ -21,6 +22,7 @@ import com.jurassic.core.global.GlobalInstRegisterTable;
 import com.jurassic.core.handler.AbstractHandler;
 import com.jurassic.core.handler.DeployProperties;
 import com.jurassic.core.handler.HandlerConfig;
+import com.jurassic.core.handler.WaitStrategyType;
 import com.jurassic.core.processor.EventProcessor;
 import com.jurassic.core.processor.WorkHandler;
 import com.jurassic.core.processor.impl.BatchEventProcessor;
@@ -127,6 +129,8 @@ public class DeployContext {
 	private Map<String, ProgressMonitor> _progressMonitors = new HashMap<>();
 	// ¼ؽӿ
 	private Map<String, EventMonitor> _eventMonitors = new HashMap<>();
+	// EPUƬ·,̴ʱ̵hashѡƬע
+	private Route[] _epuRoutes;
 
 	public DeployContext(String packageKey, String rootFilePath, URL[] urls) {
 		this._packageKey = packageKey;
@@ -397,6 +401,17 @@ public class DeployContext {
 				combindedConfigOfHandlers.putAll(configs);
 			}
 		}
+		// EPUģصʱ,ʹepuΪkeyָзƬĵȴ
+		HandlerConfig configOfEpu = combindedConfigOfHandlers.get(EPU.KEY);
+		if (this._epuRoutes != null && configOfEpu != null) {
+			for (int i = 0; i < this._epuRoutes.length; i++) {
+				this._processors.get(EPU.keyOfShard(i)).getHandler().configWaitStrategy(
+						configOfEpu.getWaitStrategy(), configOfEpu.isSingleProducer());
+			}
+		}
+		// ԶСĴοһβ۲⵽;¼ֵ
+		InFlightTbl inFlightTbl = GlobalInstRegisterTable.getInst(
+				InFlightTbl.GLOBAL_KEY, InFlightTbl.class);
 		// ɨעHandler
 		Map<String, AbstractHandler> handlers = new HashMap<>();
 		for (Map.Entry<String, Object> entry : registeredBeans.entrySet()) {
@@ -409,6 +424,20 @@ public class DeployContext {
 				if (config != null) {
 					// ãĬ
 					handler.config(config.getNumOfThread(), config.getPowerOfBuffer());
+					handler.configOverflow(config.getPowerOfOverflow(),
+							config.getOverflowPolicy(), config.getOverflowTimeout());
+					handler.configWaitStrategy(
+							config.getWaitStrategy(), config.isSingleProducer());
+					handler.configVirtualThread(config.getVirtualConcurrency());
+					handler.configContinuation(config.getContinuationDepth(),
+							config.getContinuationBudget(), config.isInlineSafe());
+					handler.configRetry(config.getRetryBudget(), config.getDeadLetter());
+					if (config.getEventPoolSize() > 0 && handler instanceof BaseEventHandler)
+						((BaseEventHandler) handler).enableEventPool(config.getEventPoolSize());
+				}
+				if (inFlightTbl != null) {
+					handler.autoSize(inFlightTbl.getPeak(
+							this._packageKey, handler.getHandlerKey()));
 				}
 				// 
 				handler.loadProperties(this._properties);
@@ -425,6 +454,20 @@ public class DeployContext {
 						if (config != null) {
 							// ãĬ
 							handler.config(config.getNumOfThread(), config.getPowerOfBuffer());
+							handler.configOverflow(config.getPowerOfOverflow(),
+									config.getOverflowPolicy(), config.getOverflowTimeout());
+							handler.configWaitStrategy(
+									config.getWaitStrategy(), config.isSingleProducer());
+							handler.configVirtualThread(config.getVirtualConcurrency());
+							handler.configContinuation(config.getContinuationDepth(),
+									config.getContinuationBudget(), config.isInlineSafe());
+							handler.configRetry(config.getRetryBudget(), config.getDeadLetter());
+							if (config.getEventPoolSize() > 0 && handler instanceof BaseEventHandler)
+								((BaseEventHandler) handler).enableEventPool(config.getEventPoolSize());
+						}
+						if (inFlightTbl != null) {
+							handler.autoSize(inFlightTbl.getPeak(
+									this._packageKey, handler.getHandlerKey()));
 						}
 						// 
 						handler.loadProperties(this._properties);
@@ -466,6 +509,21 @@ public class DeployContext {
 				}
 			}
 		}
+		// ʹӵֱִͿ
+		Map<String, AbstractHandler> inlineSafeHandlers = new HashMap<>();
+		for (Map.Entry<String, AbstractHandler> entry : handlers.entrySet()) {
+			AbstractHandler handler = entry.getValue();
+			if (handler.isInlineSafe() && isTaskHandler(handler))
+				inlineSafeHandlers.put(entry.getKey(), handler);
+		}
+		for (Map.Entry<String, AbstractHandler> entry : handlers.entrySet()) {
+			AbstractHandler handler = entry.getValue();
+			if (handler.getContinuationDepth() > 0 && isTaskHandler(handler)) {
+				Map<String, AbstractHandler> inlineHandlers = new HashMap<>(inlineSafeHandlers);
+				inlineHandlers.put(entry.getKey(), handler);
+				handler.setInlineHandlers(inlineHandlers);
+			}
+		}
 		// handlersӦʵΪProcessors
 		for (Map.Entry<String, AbstractHandler> entry : handlers.entrySet()) {
 			String handlerKey = entry.getKey();
@@ -477,7 +535,7 @@ public class DeployContext {
 						handler, new BatchTaskWorker(), handler.getPowerOfBuffer());
 			} else if (handler instanceof TaskHandler) {
 				// һ
-				WorkHandler[] workers = new WorkHandler[handler.getNumOfThread()];
+				WorkHandler[] workers = new WorkHandler[this.workerCount(handler)];
 				for (int i = 0; i < workers.length; i++)
 					workers[i] = new SingleTaskWorker();
 				processor = new SingleEventProcessor(
@@ -488,7 +546,7 @@ public class DeployContext {
 						handler, new BatchEventWorker(), handler.getPowerOfBuffer());
 			} else if (handler instanceof EventHandler) {
 				// һ¼
-				WorkHandler[] workers = new WorkHandler[handler.getNumOfThread()];
+				WorkHandler[] workers = new WorkHandler[this.workerCount(handler)];
 				for (int i = 0; i < workers.length; i++)
 					workers[i] = new SingleEventWorker();
 				processor = new SingleEventProcessor(
@@ -500,6 +558,73 @@ public class DeployContext {
 		}
 	}
 
+	private static boolean isTaskHandler(AbstractHandler handler) {
+		return handler instanceof TaskHandler || handler instanceof BatchTaskHandler;
+	}
+
+	/**
+	 * һҪĹ
+	 * ߳ģʽÿһִе¼ռһ,ڲĻҪͬ
+	 */
+	private int workerCount(AbstractHandler handler) {
+		return handler.isVirtualThread() ?
+				handler.getVirtualConcurrency() : handler.getNumOfThread();
+	}
+
+	/**
+	 * У߳ͻС,Լ¼Ƿʵhandle
+	 * ߳cpu,дĻڴ
+	 */
+	private boolean validateProcessors() {
+		int cores = Runtime.getRuntime().availableProcessors();
+		int maxThreads = cores * Constant.DRPT_MAX_WORKER_PER_CORE;
+		int threadNum = 0;
+		int spinThreadNum = 0;
+		long slotNum = 0;
+		for (Map.Entry<String, EventProcessor<?>> entry : this._processors.entrySet()) {
+			AbstractHandler handler = entry.getValue().getHandler();
+			if (handler instanceof BaseEventHandler
+					&& !((BaseEventHandler<?>) handler).isHandleImplemented()) {
+				logger.warn("context[" + this._packageKey + "],process[" + entry.getKey()
+						+ "] handler " + handler.getClass().getName() + " implements no handle method");
+				return false;
+			}
+			int power = handler.getPowerOfBuffer();
+			if (power > Constant.DRPT_MAX_DATA_SIZE_POWER) {
+				logger.warn("context[" + this._packageKey + "],process[" + entry.getKey()
+						+ "] buffer power " + power + " exceeds " + Constant.DRPT_MAX_DATA_SIZE_POWER);
+				return false;
+			}
+			if (handler.getNumOfThread() > maxThreads) {
+				logger.warn("context[" + this._packageKey + "],process[" + entry.getKey()
+						+ "] " + handler.getNumOfThread() + " threads exceeds " + maxThreads
+						+ " on " + cores + " cores");
+				return false;
+			}
+			threadNum += handler.getNumOfThread();
+			if (handler.getWaitStrategy() == WaitStrategyType.BUSY_SPIN)
+				spinThreadNum += handler.getNumOfThread();
+			slotNum += 1L << power;
+		}
+		if (threadNum > maxThreads) {
+			logger.warn("context[" + this._packageKey + "] " + threadNum
+					+ " threads exceeds " + maxThreads + " on " + cores + " cores");
+			return false;
+		}
+		if (spinThreadNum > cores) {
+			// æȵ̳߳cpuụռ,ֻʾ
+			logger.warn("context[" + this._packageKey + "] " + spinThreadNum
+					+ " busy spin threads on " + cores + " cores");
+		}
+		long maxMemory = Runtime.getRuntime().maxMemory() / Constant.DRPT_MAX_RING_MEMORY_RATIO;
+		if (slotNum * Constant.DRPT_SLOT_BYTES > maxMemory) {
+			logger.warn("context[" + this._packageKey + "] ring buffers need "
+					+ slotNum * Constant.DRPT_SLOT_BYTES + " bytes, exceeds " + maxMemory);
+			return false;
+		}
+		return true;
+	}
+
 	/**
 	 * ThreadPool
 	 */
@@ -709,15 +834,42 @@ public class DeployContext {
 		if (path != null) {
 			this.loadProgressTemplateFromPath(path);
 		}
+		// Ϊģ崴̳
+		this._progressFactory.initPools(this._packageKey, this._properties);
 		if (this._progressFactory.hasProgressTemplate()) {
-			// ģģ壬ĬһEPU
-			EventProcessor processor = new BatchEventProcessor(
-					new EPU(), new EPUWorker(), Constant.DEFAULT_EPU_POWER);
-			this._processors.put(processor.getHandler().getHandlerKey(),
-					processor);
+			// ģģ壬ĬEPU,Ƭepu.shards,ĬΪ1
+			int shards = this.epuShards();
+			if (shards <= 0) {
+				this.destroyResource();
+				return false;
+			}
+			EventBus eventBus = GlobalInstRegisterTable.getInst(
+					EventBus.GLOBAL_KEY, EventBus.class);
+			this._epuRoutes = new Route[shards];
+			for (int i = 0; i < shards; i++) {
+				EventProcessor processor = new BatchEventProcessor(
+						new EPU(i), new EPUWorker(), Constant.DEFAULT_EPU_POWER);
+				this._processors.put(processor.getHandler().getHandlerKey(),
+						processor);
+				// ԤȽEPU·,ɺֱͨ·ɾύEPU
+				this._epuRoutes[i] = eventBus.route(
+						this._packageKey, processor.getHandler().getHandlerKey());
+			}
 		}
 		// Handler
-		this.registerHandler(registeredBeans);
+		try {
+			this.registerHandler(registeredBeans);
+		} catch (IllegalStateException ex) {
+			// ʵֲƥ,翪¼صûʵnewEvent
+			logger.warn("context[" + this._packageKey + "] " + ex.getMessage());
+			this.destroyResource();
+			return false;
+		}
+		// У鴦߳ͻС
+		if (!this.validateProcessors()) {
+			this.destroyResource();
+			return false;
+		}
 		// ̺¼monitor
 		this.registerMonitor(registeredBeans);
 		// ThreadPool
@@ -766,6 +918,15 @@ public class DeployContext {
 		for (UnDeployAware aware : this._undeployAwares) {
 			aware.shutdown(this);
 		}
+		// ¼;¼ֵ,һβԶС
+		InFlightTbl inFlightTbl = GlobalInstRegisterTable.getInst(
+				InFlightTbl.GLOBAL_KEY, InFlightTbl.class);
+		if (inFlightTbl != null) {
+			for (Map.Entry<String, EventProcessor<?>> entry : this._processors.entrySet()) {
+				inFlightTbl.record(this._packageKey, entry.getKey(),
+						entry.getValue().getPeakInFlight());
+			}
+		}
 		// رеProcessor
 		this.shutdownProcessors();
 		this._threadPool.shutdown();
@@ -817,6 +978,37 @@ public class DeployContext {
 		return depends.split(",");
 	}
 
+	/**
+	 * ȡEPUķƬ,ô󷵻0
+	 */
+	private int epuShards() {
+		String shards = this._properties.getProperty("epu.shards");
+		if (shards == null)
+			return 1;
+		try {
+			int num = Integer.parseInt(shards.trim());
+			if (num > 0)
+				return num;
+		} catch (NumberFormatException ignored) {
+		}
+		logger.warn("invalid epu.shards " + shards);
+		return 0;
+	}
+
+	/**
+	 * ̵hashѡEPUƬ,ͬһ̵ʼύͬһƬ
+	 */
+	private Route epuRouteOf(Progress progress) {
+		Route[] routes = this._epuRoutes;
+		if (routes == null)
+			return null;
+		if (routes.length == 1)
+			return routes[0];
+		int h = System.identityHashCode(progress);
+		h ^= (h >>> 16);
+		return routes[(h & 0x7fffffff) % routes.length];
+	}
+
 	/**
 	 * 
 	 * ģ帺𴴽
@@ -833,6 +1025,7 @@ public class DeployContext {
 				this._packageKey, progressKey, params, parent);
 		// Ҫ̣Ϊ½עmonitor
 		if (proc != null) {
+			proc.setEpuRoute(this.epuRouteOf(proc));
 			ProgressMonitor monitor = this._progressMonitors.get(progressKey);
 			if (monitor != null) {
 				proc.setMonitor(monitor);
@@ -876,6 +1069,15 @@ public class DeployContext {
 	}
 
 
+	/**
+	 * handlerӦĴ
+	 * ͨ÷·ɷַ
+	 */
+	public EventProcessor<?> getProcessor(String handler) {
+		Map<String, EventProcessor<?>> processors = this._processors;
+		return processors != null ? processors.get(handler) : null;
+	}
+
 	/**
 	 * ¼
 	 */
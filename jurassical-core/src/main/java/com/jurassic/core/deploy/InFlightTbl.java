@@ -0,0 +1,38 @@
+package com.jurassic.core.deploy;
+
+import com.jurassic.core.util.CopyOnWriteMap;
+
+/**
+ * ;¼ֵͳƱ
+ * жصʱ¼۲⵽;¼ֵ
+ * ٴβʱ,ΪԶСĴݸ÷ֵС
+ *
+ * @author yzhu
+ */
+public class InFlightTbl {
+
+	public static final String GLOBAL_KEY = "in_flight_tbl";
+
+	// packageKey.handlerKey->;¼ֵ
+	private final CopyOnWriteMap<String, Integer> _peaks = new CopyOnWriteMap<>();
+
+	/**
+	 * ¼;¼ֵ,ʷϵֵ
+	 */
+	public synchronized void record(String packageKey, String handlerKey, int peak) {
+		String key = packageKey + "." + handlerKey;
+		Integer old = this._peaks.get(key);
+		if (old == null || old < peak) {
+			this._peaks.set(key, peak);
+			this._peaks.flush();
+		}
+	}
+
+	/**
+	 * ô;¼ֵ,ûм¼0
+	 */
+	public int getPeak(String packageKey, String handlerKey) {
+		Integer peak = this._peaks.get(packageKey + "." + handlerKey);
+		return peak != null ? peak : 0;
+	}
+}
@@ -0,0 +1,46 @@
+package com.jurassic.core.event;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ָ˱ܵԲ
+ * nԵӳΪbaseDelay * multiplier^n,maxDelay,
+ * ʵӳ[delay/2, delay]֮,ͬʱʧܵ¼ͬʱ
+ * ԴmaxAttemptsʱ䳬maxElapsedʱ
+ *
+ * @author yzhu
+ */
+public class BackoffRetryPolicy implements RetryPolicy {
+
+	private final long _baseDelay;// һԵӳ(ms)
+	private final long _maxDelay;// ӳ(ms)
+	private final double _multiplier;// ÿӳٵ
+	private final int _maxAttempts;// Դ,-1ʾ
+	private final long _maxElapsed;// ʱ(ms),0ʾ
+
+	public BackoffRetryPolicy(long baseDelay, long maxDelay, int maxAttempts) {
+		this(baseDelay, maxDelay, 2.0, maxAttempts, 0);
+	}
+
+	public BackoffRetryPolicy(long baseDelay, long maxDelay, double multiplier,
+							  int maxAttempts, long maxElapsed) {
+		this._baseDelay = baseDelay > 0 ? baseDelay : 1;
+		this._maxDelay = Math.max(maxDelay, this._baseDelay);
+		this._multiplier = multiplier >= 1.0 ? multiplier : 1.0;
+		this._maxAttempts = maxAttempts;
+		this._maxElapsed = maxElapsed > 0 ? maxElapsed : 0;
+	}
+
+	public long nextDelay(Event event, int attempt, long elapsed) {
+		if (this._maxAttempts >= 0 && attempt >= this._maxAttempts)
+			return STOP;
+		double backoff = this._baseDelay * Math.pow(this._multiplier, attempt);
+		long delay = backoff < this._maxDelay ? (long) backoff : this._maxDelay;
+		// ȷֶ,һ˱ʱ
+		long half = delay >> 1;
+		delay = half + ThreadLocalRandom.current().nextLong(delay - half + 1);
+		if (this._maxElapsed > 0 && elapsed + delay > this._maxElapsed)
+			return STOP;
+		return delay;
+	}
+}
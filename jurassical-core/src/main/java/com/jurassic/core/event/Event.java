@@ -1,5 +1,9 @@
 package com.jurassic.core.event;
 
+import com.jurassic.core.bus.Route;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
 /**
  * ¼Ļ
  * 
@@ -188,9 +192,127 @@ public abstract class Event {
 		return this._retryNum;
 	}
 
+	// ʧԵ,resetʱ,ɹԳɹþ֮
+	private RetryPolicy _retryPolicy;// Բ,ΪnullʱscheduleSpan
+	private int _attempt = 0;// ʧѾԵĴ
+	private long _firstFailTime = -1;// ֵһʧܵʱ
+
+	public void setRetryPolicy(RetryPolicy policy) {
+		this._retryPolicy = policy;
+	}
+
+	public RetryPolicy getRetryPolicy() {
+		return this._retryPolicy;
+	}
+
+	public int getAttempt() {
+		return this._attempt;
+	}
+
+	/**
+	 * ʧ֮һԵӳ(ms),RetryPolicy.STOPʾѾþ
+	 */
+	public long nextRetryDelay() {
+		long now = System.currentTimeMillis();
+		if (this._firstFailTime == -1)
+			this._firstFailTime = now;
+		if (this._retryPolicy == null)
+			return this._scheduleSpan;
+		long delay = this._retryPolicy.nextDelay(
+				this, this._attempt, now - this._firstFailTime);
+		if (delay != RetryPolicy.STOP)
+			this._attempt++;
+		return delay;
+	}
+
+	/**
+	 * ʧ
+	 */
+	public void clearRetry() {
+		this._attempt = 0;
+		this._firstFailTime = -1;
+	}
+
 	private EventMonitor _monitor;// ¼ļ
 
 	public void setMonitor(EventMonitor monitor) {
 		this._monitor = monitor;
 	}
+
+	// ¼keyӦ·,һfireʱ߽
+	// ¼packageKeyeventKeyڲ,resetʱҪ
+	private Route _route;
+
+	public Route getRoute() {
+		return this._route;
+	}
+
+	public void setRoute(Route route) {
+		this._route = route;
+	}
+
+	// ػ¼
+	private static final AtomicIntegerFieldUpdater<Event> REF_COUNT =
+			AtomicIntegerFieldUpdater.newUpdater(Event.class, "_refCount");
+	private EventPool<?> _pool;// ¼¼,ǳػ¼Ϊnull
+	private volatile int _refCount = 0;// ü
+
+	/**
+	 * ¼зʱ¼
+	 */
+	void attach(EventPool<?> pool) {
+		this._pool = pool;
+		this._refCount = 1;
+	}
+
+	/**
+	 * ж¼Ƿ¼з
+	 */
+	public boolean isPooled() {
+		return this._pool != null;
+	}
+
+	/**
+	 * ü,¼㲥ʱʹ
+	 */
+	public void retain(int num) {
+		if (this._pool != null)
+			REF_COUNT.addAndGet(this, num);
+	}
+
+	/**
+	 * ͷһ,üĳػ¼յ¼
+	 * µȵ¼staticsͷ֮Rescheduler,ܶݹ,
+	 * ֻյִе¼,Ƚ¼ReschedulerΪִк
+	 */
+	public void release() {
+		EventPool<?> pool = this._pool;
+		if (pool != null && REF_COUNT.decrementAndGet(this) == 0
+				&& this._scheduleType == SINGLE) {
+			pool.free(this);
+		}
+	}
+
+	/**
+	 * ¼,¼״̬,,Լҵ
+	 */
+	void recycle() {
+		this.reset();
+		this.clear();
+		this._scheduleSpan = 0;
+		this._retryNum = 0;
+		this._retryPolicy = null;
+		this.clearRetry();
+		this._monitor = null;
+		this._route = null;
+		this._pool = null;
+	}
+
+	/**
+	 * ҵ
+	 * ػ¼ڻյʱ,Ҫге
+	 * resetͬ,resetֻ״̬,µȵ¼Ȼҵ
+	 */
+	protected void clear() {
+	}
 }
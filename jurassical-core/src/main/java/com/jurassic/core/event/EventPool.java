@@ -0,0 +1,98 @@
+package com.jurassic.core.event;
+
+import java.util.function.Supplier;
+
+import com.jurassic.core.util.SimpleMutexLock;
+
+/**
+ * ¼
+ * ػ¼staticsͳ,üյظʹ
+ * ¼̷ֶ߳δ,ʱʹñ̶߳Ӧķֶ,ûп¼ٲֶ
+ * еĿ¼,¼Լûбյ¼gc
+ *
+ * @author yzhu
+ */
+public class EventPool<E extends Event> {
+
+	private static final int STRIPES = 8;// ֶ,2ݴη
+
+	private final Supplier<E> _factory;// ¼
+	private final Stripe[] _stripes;// ¼ķֶ
+
+	public EventPool(Supplier<E> factory, int capacity) {
+		this._factory = factory;
+		int capacityOfStripe = Math.max(capacity / STRIPES, 1);
+		this._stripes = new Stripe[STRIPES];
+		for (int i = 0; i < STRIPES; i++) {
+			this._stripes[i] = new Stripe(capacityOfStripe);
+		}
+	}
+
+	private static int stripeOf() {
+		return (int) Thread.currentThread().getId() & (STRIPES - 1);
+	}
+
+	/**
+	 * һ¼,ûп¼ʱ򴴽µ¼
+	 */
+	@SuppressWarnings("unchecked")
+	public E allocate() {
+		int start = stripeOf();
+		for (int i = 0; i < STRIPES; i++) {
+			Event event = this._stripes[(start + i) & (STRIPES - 1)].pop();
+			if (event != null) {
+				event.attach(this);
+				return (E) event;
+			}
+		}
+		E event = this._factory.get();
+		event.attach(this);
+		return event;
+	}
+
+	/**
+	 * ¼,¼״̬
+	 */
+	void free(Event event) {
+		event.recycle();
+		this._stripes[stripeOf()].push(event);
+	}
+
+	/**
+	 * ¼ķֶ,ʹ
+	 */
+	private static final class Stripe {
+		private final SimpleMutexLock _lock = new SimpleMutexLock();
+		private final Event[] _events;
+		private int _size = 0;
+
+		Stripe(int capacity) {
+			this._events = new Event[capacity];
+		}
+
+		Event pop() {
+			if (this._size == 0)
+				return null;
+			this._lock.lock();
+			try {
+				if (this._size == 0)
+					return null;
+				Event event = this._events[--this._size];
+				this._events[this._size] = null;
+				return event;
+			} finally {
+				this._lock.unlock();
+			}
+		}
+
+		void push(Event event) {
+			this._lock.lock();
+			try {
+				if (this._size < this._events.length)
+					this._events[this._size++] = event;
+			} finally {
+				this._lock.unlock();
+			}
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.jurassic.core.event;
+
+/**
+ * ¼Բ
+ * RETRY_ON_ERROR¼ʧ֮,ɲԾһԵӳ
+ * ûòԵ¼չ̶scheduleSpan
+ *
+ * @author yzhu
+ */
+public interface RetryPolicy {
+
+	long STOP = -1L;// 
+
+	/**
+	 * һԵӳ(ms)
+	 * attemptΪʧѾԵĴ,һִ,elapsedΪ뱾ֵһʧܵʱ(ms)
+	 * STOPʾѾþ
+	 */
+	long nextDelay(Event event, int attempt, long elapsed);
+}
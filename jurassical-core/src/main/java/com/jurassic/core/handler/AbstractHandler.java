@@ -6,6 +6,8 @@ import com.jurassic.core.resource.ResourceHandler;
 import com.jurassic.core.resource.ResourceHandlerFactory;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * Ļඨ
@@ -17,20 +19,108 @@ public abstract class AbstractHandler {
 
 	protected int _numOfThread;// ߳
 	protected int _powerOfBuffer;// ݻСʹ2ݴη¼ָ
+	protected boolean _autoSize = false;// Ƿݹ۲;¼ֵԶС
+	protected int _powerOfOverflow = Constant.DRPT_OVERFLOW_SIZE_POWER;// дСʹ2ݴη
+	protected OverflowPolicy _overflowPolicy = OverflowPolicy.UNBOUNDED;// ʱľܾ
+	protected long _overflowTimeout = Constant.DRPT_OVERFLOW_TIMEOUT;// BLOCKԵĳʱʱ(ms)
+	protected WaitStrategyType _waitStrategy = WaitStrategyType.BLOCKING;// ̵߳ĵȴ
+	protected boolean _singleProducer = false;// Ƿֻеһη
+	protected int _virtualConcurrency = 0;// ߳ģʽµ󲢷,0ʾʹ߳
+	protected int _continuationDepth = 0;// ӵ,0ʾʹ
+	protected long _continuationBudget = Constant.DRPT_CONTINUATION_BUDGET;// ӵʱԤ(us)
+	protected boolean _inlineSafe = false;// ǷĹִ߳
+	// ʱڵǰֱִ߳еĴ,
+	protected Map<String, AbstractHandler> _inlineHandlers = Collections.emptyMap();
+	protected RetryBudget _retryBudget;// Ԥ,nullʾ
+	protected String _deadLetter;// þ¼תĴ,nullʾ
 
 	public AbstractHandler() {
 	}
 
 	/**
 	 * ô
+	 * ߳ͻСض,ɲڲʱͳһУ
+	 * powerOfBufferΪDRPT_AUTO_SIZE_POWERʱ,СʱĹ۲Զ
 	 */
 	public void config(int numOfThread, int powerOfBuffer) {
 		this._numOfThread = numOfThread > 0 ? numOfThread : Constant.DRPT_WORKER_SIZE;
 		this._powerOfBuffer = powerOfBuffer > 0 ? powerOfBuffer : Constant.DRPT_DATA_SIZE_POWER;
-		if (this._numOfThread > Constant.DRPT_MAX_WORKER_SIZE)
-			this._numOfThread = Constant.DRPT_MAX_WORKER_SIZE;
-		if (this._powerOfBuffer > Constant.DRPT_MAX_DATA_SIZE_POWER)
-			this._powerOfBuffer = Constant.DRPT_MAX_DATA_SIZE_POWER;
+		this._autoSize = powerOfBuffer == Constant.DRPT_AUTO_SIZE_POWER;
+	}
+
+	/**
+	 * ݹ۲⵽;¼ֵС,ֻԶСĴЧ
+	 * ȡܹ2ֵС2ݴη,СڵǰĴС
+	 */
+	public void autoSize(int peakInFlight) {
+		if (!this._autoSize || peakInFlight <= 0)
+			return;
+		int power = this._powerOfBuffer;
+		while (power < Constant.DRPT_MAX_DATA_SIZE_POWER
+				&& (1L << power) < peakInFlight * 2L) {
+			power++;
+		}
+		this._powerOfBuffer = power;
+	}
+
+	/**
+	 * ô
+	 * policyΪnullʱʹòƴС,ֻʽнԵĴŻܾ¼
+	 */
+	public void configOverflow(int powerOfOverflow, OverflowPolicy policy, long timeout) {
+		this._powerOfOverflow = powerOfOverflow > 0 ? powerOfOverflow : Constant.DRPT_OVERFLOW_SIZE_POWER;
+		if (this._powerOfOverflow > Constant.DRPT_MAX_OVERFLOW_SIZE_POWER)
+			this._powerOfOverflow = Constant.DRPT_MAX_OVERFLOW_SIZE_POWER;
+		this._overflowPolicy = policy != null ? policy : OverflowPolicy.UNBOUNDED;
+		this._overflowTimeout = timeout > 0 ? timeout : Constant.DRPT_OVERFLOW_TIMEOUT;
+	}
+
+	/**
+	 * ߳ģʽ,ֻԵһЧ
+	 * ֻҪһַ߳,ÿһ¼ڶִ߳
+	 * maxConcurrency0ʾʹͨĹ߳
+	 */
+	public void configVirtualThread(int maxConcurrency) {
+		this._virtualConcurrency = maxConcurrency > 0 ? maxConcurrency : 0;
+		if (this._virtualConcurrency > 0) {
+			// ַֻ߳Ӵȡ¼
+			this._numOfThread = 1;
+		}
+	}
+
+	/**
+	 * 
+	 * maxDepth0ʾʹ,inlineSafeʾôԱִ
+	 */
+	public void configContinuation(int maxDepth, long budget, boolean inlineSafe) {
+		this._continuationDepth = maxDepth > 0 ? maxDepth : 0;
+		this._continuationBudget = budget > 0 ? budget : Constant.DRPT_CONTINUATION_BUDGET;
+		this._inlineSafe = inlineSafe;
+	}
+
+	/**
+	 * ʱֱִеĴ,ɲд֮
+	 */
+	public void setInlineHandlers(Map<String, AbstractHandler> inlineHandlers) {
+		this._inlineHandlers = inlineHandlers;
+	}
+
+	/**
+	 * ʧ¼
+	 * retryBudget0ʾԴ,deadLetterΪnullʾþ¼ֱӶ
+	 */
+	public void configRetry(int retryBudget, String deadLetter) {
+		this._retryBudget = retryBudget > 0 ? new RetryBudget(retryBudget) : null;
+		this._deadLetter = deadLetter;
+	}
+
+	/**
+	 * ù̵߳ĵȴԺʹеģʽ
+	 * ģʽֻһεĴ,ʡȥʱsequencerϵCAS
+	 */
+	public void configWaitStrategy(WaitStrategyType waitStrategy, boolean singleProducer) {
+		this._waitStrategy = waitStrategy != null ? waitStrategy : WaitStrategyType.BLOCKING;
+		this._singleProducer = singleProducer;
 	}
 
 
@@ -40,6 +130,34 @@ public abstract class AbstractHandler {
 
 	public int getPowerOfBuffer() { return this._powerOfBuffer; }
 
+	public boolean isAutoSize() { return this._autoSize; }
+
+	public int getPowerOfOverflow() { return this._powerOfOverflow; }
+
+	public OverflowPolicy getOverflowPolicy() { return this._overflowPolicy; }
+
+	public long getOverflowTimeout() { return this._overflowTimeout; }
+
+	public WaitStrategyType getWaitStrategy() { return this._waitStrategy; }
+
+	public boolean isVirtualThread() { return this._virtualConcurrency > 0; }
+
+	public int getVirtualConcurrency() { return this._virtualConcurrency; }
+
+	public boolean isSingleProducer() { return this._singleProducer; }
+
+	public int getContinuationDepth() { return this._continuationDepth; }
+
+	public long getContinuationBudget() { return this._continuationBudget; }
+
+	public boolean isInlineSafe() { return this._inlineSafe; }
+
+	public Map<String, AbstractHandler> getInlineHandlers() { return this._inlineHandlers; }
+
+	public RetryBudget getRetryBudget() { return this._retryBudget; }
+
+	public String getDeadLetter() { return this._deadLetter; }
+
 	/**
 	 * Ϣ
 	 */
@@ -1,5 +1,7 @@
 package com.jurassic.core.handler;
 
+import com.jurassic.core.bus.Constant;
+
 /**
  * Handler
  *
@@ -9,10 +11,132 @@ public class HandlerConfig {
 
     private final int _numOfThread;// ߳
     private final int _powerOfBuffer;// С
+    private final int _powerOfOverflow;// дС
+    private final OverflowPolicy _overflowPolicy;// ʱľܾ
+    private final long _overflowTimeout;// BLOCKԵĳʱʱ(ms)
+    private final WaitStrategyType _waitStrategy;// ̵߳ĵȴ
+    private final boolean _singleProducer;// Ƿǵ
+    private final int _virtualConcurrency;// ߳ģʽµ󲢷,0ʾʹ߳
+    private final int _eventPoolSize;// ¼صĴС,0ʾʹ¼
+    private final int _continuationDepth;// ӵ,0ʾʹ
+    private final long _continuationBudget;// ӵʱԤ(us)
+    private final boolean _inlineSafe;// ǷĹִ߳
+    private final int _retryBudget;// ÿԴ,0ʾ
+    private final String _deadLetter;// þ¼תĴ,nullʾ
 
     public HandlerConfig(int numOfThread, int powerOfBuffer) {
+        this(numOfThread, powerOfBuffer, 0, null, 0, null, false);
+    }
+
+    public HandlerConfig(int numOfThread, int powerOfBuffer,
+                         WaitStrategyType waitStrategy, boolean singleProducer) {
+        this(numOfThread, powerOfBuffer, 0, null, 0, waitStrategy, singleProducer);
+    }
+
+    public HandlerConfig(int numOfThread, int powerOfBuffer,
+                         int powerOfOverflow, OverflowPolicy overflowPolicy,
+                         long overflowTimeout) {
+        this(numOfThread, powerOfBuffer, powerOfOverflow, overflowPolicy,
+                overflowTimeout, null, false);
+    }
+
+    public HandlerConfig(int numOfThread, int powerOfBuffer,
+                         int powerOfOverflow, OverflowPolicy overflowPolicy,
+                         long overflowTimeout, WaitStrategyType waitStrategy,
+                         boolean singleProducer) {
+        this(numOfThread, powerOfBuffer, powerOfOverflow, overflowPolicy,
+                overflowTimeout, waitStrategy, singleProducer, 0, 0, 0, 0, false, 0, null);
+    }
+
+    private HandlerConfig(int numOfThread, int powerOfBuffer,
+                          int powerOfOverflow, OverflowPolicy overflowPolicy,
+                          long overflowTimeout, WaitStrategyType waitStrategy,
+                          boolean singleProducer, int virtualConcurrency,
+                          int eventPoolSize, int continuationDepth,
+                          long continuationBudget, boolean inlineSafe,
+                          int retryBudget, String deadLetter) {
         this._numOfThread = numOfThread;
         this._powerOfBuffer = powerOfBuffer;
+        this._powerOfOverflow = powerOfOverflow;
+        this._overflowPolicy = overflowPolicy;
+        this._overflowTimeout = overflowTimeout;
+        this._waitStrategy = waitStrategy;
+        this._singleProducer = singleProducer;
+        this._virtualConcurrency = virtualConcurrency;
+        this._eventPoolSize = eventPoolSize;
+        this._continuationDepth = continuationDepth;
+        this._continuationBudget = continuationBudget;
+        this._inlineSafe = inlineSafe;
+        this._retryBudget = retryBudget;
+        this._deadLetter = deadLetter;
+    }
+
+    /**
+     * ʹ߳ģʽ
+     * ȡÿһ¼ڶִ߳,ͬʱִе¼maxConcurrency
+     * ڴ󲿷ʱioϵĵһ
+     */
+    public HandlerConfig virtualThread(int maxConcurrency) {
+        return new HandlerConfig(this._numOfThread, this._powerOfBuffer,
+                this._powerOfOverflow, this._overflowPolicy, this._overflowTimeout,
+                this._waitStrategy, this._singleProducer,
+                maxConcurrency > 0 ? maxConcurrency : Constant.DRPT_VIRTUAL_CONCURRENCY,
+                this._eventPoolSize, this._continuationDepth, this._continuationBudget,
+                this._inlineSafe, this._retryBudget, this._deadLetter);
+    }
+
+    /**
+     * ʹ¼ص
+     * ͨ¼ش¼,¼staticsͳɺ
+     */
+    public HandlerConfig eventPool(int size) {
+        return new HandlerConfig(this._numOfThread, this._powerOfBuffer,
+                this._powerOfOverflow, this._overflowPolicy, this._overflowTimeout,
+                this._waitStrategy, this._singleProducer, this._virtualConcurrency,
+                size > 0 ? size : Constant.DRPT_EVENT_POOL_SIZE,
+                this._continuationDepth, this._continuationBudget, this._inlineSafe,
+                this._retryBudget, this._deadLetter);
+    }
+
+    /**
+     * ʹӵ,ֻЧ
+     * ɺɹֱ߳Ӽ̵һ,ͬһͿĴĺ
+     * ֱڵǰִ߳,ִmaxDepthߵʱԤbudget(us)
+     */
+    public HandlerConfig continuation(int maxDepth, long budget) {
+        return new HandlerConfig(this._numOfThread, this._powerOfBuffer,
+                this._powerOfOverflow, this._overflowPolicy, this._overflowTimeout,
+                this._waitStrategy, this._singleProducer, this._virtualConcurrency,
+                this._eventPoolSize,
+                maxDepth > 0 ? maxDepth : Constant.DRPT_CONTINUATION_DEPTH,
+                budget > 0 ? budget : Constant.DRPT_CONTINUATION_BUDGET,
+                this._inlineSafe, this._retryBudget, this._deadLetter);
+    }
+
+    /**
+     * ɿִе
+     * ʹӵĴ乤ֱִ߳
+     * ִʱ,,Ҳ߳ϵԴĴ
+     */
+    public HandlerConfig inlineSafe() {
+        return new HandlerConfig(this._numOfThread, this._powerOfBuffer,
+                this._powerOfOverflow, this._overflowPolicy, this._overflowTimeout,
+                this._waitStrategy, this._singleProducer, this._virtualConcurrency,
+                this._eventPoolSize, this._continuationDepth, this._continuationBudget,
+                true, this._retryBudget, this._deadLetter);
+    }
+
+    /**
+     * Ե
+     * ÿbudgetʧܵ¼,ԤԲþ¼
+     * תͬһеdeadLetter,deadLetterΪnullʱֱӶ
+     */
+    public HandlerConfig retry(int budget, String deadLetter) {
+        return new HandlerConfig(this._numOfThread, this._powerOfBuffer,
+                this._powerOfOverflow, this._overflowPolicy, this._overflowTimeout,
+                this._waitStrategy, this._singleProducer, this._virtualConcurrency,
+                this._eventPoolSize, this._continuationDepth, this._continuationBudget,
+                this._inlineSafe, budget > 0 ? budget : 0, deadLetter);
     }
 
     public int getNumOfThread() {
@@ -23,4 +147,52 @@ public class HandlerConfig {
         return this._powerOfBuffer;
     }
 
+    public int getPowerOfOverflow() {
+        return this._powerOfOverflow;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return this._overflowPolicy;
+    }
+
+    public long getOverflowTimeout() {
+        return this._overflowTimeout;
+    }
+
+    public WaitStrategyType getWaitStrategy() {
+        return this._waitStrategy;
+    }
+
+    public boolean isSingleProducer() {
+        return this._singleProducer;
+    }
+
+    public int getVirtualConcurrency() {
+        return this._virtualConcurrency;
+    }
+
+    public int getEventPoolSize() {
+        return this._eventPoolSize;
+    }
+
+    public int getContinuationDepth() {
+        return this._continuationDepth;
+    }
+
+    public long getContinuationBudget() {
+        return this._continuationBudget;
+    }
+
+    public boolean isInlineSafe() {
+        return this._inlineSafe;
+    }
+
+    public int getRetryBudget() {
+        return this._retryBudget;
+    }
+
+    public String getDeadLetter() {
+        return this._deadLetter;
+    }
+
 }
@@ -0,0 +1,20 @@
+package com.jurassic.core.handler;
+
+/**
+ * ʱľܾ
+ *
+ * @author yzhu
+ */
+public enum OverflowPolicy {
+	// еĴС,¼ᱻܾ,Ĭϲ
+	// ڲ(EPUƬ,̵Ŀʼ,ͳƵ)ʹøò,⴦֮以
+	UNBOUNDED,
+	// ,ֱпռ߳ʱ,ʱFAIL
+	BLOCK,
+	// µ¼
+	DROP_NEWEST,
+	// ¼,Ϊ¼ڳռ
+	DROP_OLDEST,
+	// ܾ,׳EventNotFiredErr
+	FAIL
+}
@@ -0,0 +1,41 @@
+package com.jurassic.core.handler;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ԥ
+ * ÿmaxPerSecond,Ԥʧ¼
+ * γʧܵʱԴĶ⸺
+ *
+ * @author yzhu
+ */
+public class RetryBudget {
+
+	private final int _maxPerSecond;// ÿԴ
+	private final AtomicInteger _used = new AtomicInteger();// ǰѾʹõĴ
+	private volatile long _window = 0;// ǰ(s)
+
+	public RetryBudget(int maxPerSecond) {
+		this._maxPerSecond = maxPerSecond;
+	}
+
+	/**
+	 * һ,ǷԤ֮
+	 */
+	public boolean tryAcquire() {
+		long window = System.currentTimeMillis() / 1000L;
+		if (window != this._window) {
+			synchronized (this) {
+				if (window != this._window) {
+					this._used.set(0);
+					this._window = window;
+				}
+			}
+		}
+		return this._used.incrementAndGet() <= this._maxPerSecond;
+	}
+
+	public int getMaxPerSecond() {
+		return this._maxPerSecond;
+	}
+}
@@ -0,0 +1,54 @@
+package com.jurassic.core.handler;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.PhasedBackoffWaitStrategy;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ̵߳ȴ¼Ĳ
+ * ϵӳ,cpuռν
+ *
+ * @author yzhu
+ */
+public enum WaitStrategyType {
+	// æ,̶߳ռcpu,ӳеĴ
+	BUSY_SPIN {
+		public WaitStrategy create() {
+			return new BusySpinWaitStrategy();
+		}
+	},
+	// ócpu
+	YIELDING {
+		public WaitStrategy create() {
+			return new YieldingWaitStrategy();
+		}
+	},
+	// ,ócpu,ȴ
+	PHASED_BACKOFF {
+		public WaitStrategy create() {
+			return PhasedBackoffWaitStrategy.withLock(10, 100, TimeUnit.MICROSECONDS);
+		}
+	},
+	// ,ócpu
+	SLEEPING {
+		public WaitStrategy create() {
+			return new SleepingWaitStrategy();
+		}
+	},
+	// ȴ,disruptorĬϲ,ڵƵĴ
+	BLOCKING {
+		public WaitStrategy create() {
+			return new BlockingWaitStrategy();
+		}
+	};
+
+	/**
+	 * disruptorĵȴ
+	 */
+	public abstract WaitStrategy create();
+}
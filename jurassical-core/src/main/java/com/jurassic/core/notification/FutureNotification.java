@@ -0,0 +1,22 @@
+package com.jurassic.core.notification;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 첽Ľصӿ
+ * ̵ĽͨCompletableFuture,ȴ󷽲Ҫռ߳
+ * ̵쳣쳣ɵķʽ֪ͨ
+ *
+ * @author yzhu
+ */
+public class FutureNotification extends CompletableFuture<Object>
+		implements ResultNotification {
+
+	public void notify(Object result) {
+		if (result instanceof Throwable) {
+			this.completeExceptionally((Throwable) result);
+		} else {
+			this.complete(result);
+		}
+	}
+}
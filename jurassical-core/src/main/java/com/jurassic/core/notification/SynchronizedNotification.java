@@ -12,7 +12,8 @@ import java.util.concurrent.locks.LockSupport;
 public class SynchronizedNotification implements ResultNotification {
 
 	private Thread _owner;// ʹڵִ̣̻߳߳wait
-	private Object _result;// ̵
+	private volatile Object _result;// ̵
+	private volatile boolean _notified = false;// ǷѾ֪ͨ˽
 
 	/**
 	 * ønotificationҪ֪ͨ߳
@@ -23,6 +24,7 @@ public class SynchronizedNotification implements ResultNotification {
 
 	public void notify(Object result) {
 		this._result = result;
+		this._notified = true;
 
 		// ѵȴ߳
 		LockSupport.unpark(this._owner);
@@ -47,26 +49,20 @@ public class SynchronizedNotification implements ResultNotification {
 	 */
 	public Object getResult(long timeoutMillSeconds) throws Throwable {
 		// Ѿн,ֱӷ
-		if (this._result != null) {
+		if (this._notified) {
 			return this._getResult();
 		}
 
-		// ȴأ̱߳»
-		long start = System.currentTimeMillis();
-		LockSupport.parkNanos(timeoutMillSeconds * 1000000L);
-		long end = System.currentTimeMillis();
-		// ȴʱ,ûнִгʱ,ֱӷؽ
-		if (this._result == null) {
-			if (end - start >= timeoutMillSeconds) {
-				// ûбǰѣ׳ʱ쳣
+		// ȴأ̱߳»,⻽ѵʱȴ
+		long deadline = System.nanoTime() + timeoutMillSeconds * 1000000L;
+		while (!this._notified) {
+			long remain = deadline - System.nanoTime();
+			if (remain <= 0) {
+				// ȴʱûн,ִгʱ
 				throw new TimeoutException("get result timeout");
-			} else {
-				// ˵ؾnull
-				return null;
 			}
-		} else {
-			// Ѿзˣֱӷ
-			return this._getResult();
+			LockSupport.parkNanos(remain);
 		}
+		return this._getResult();
 	}
 }
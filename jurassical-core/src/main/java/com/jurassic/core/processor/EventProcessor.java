@@ -3,6 +3,7 @@ package com.jurassic.core.processor;
 import com.jurassic.core.event.Event;
 import com.jurassic.core.handler.AbstractHandler;
 
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 
 /**
@@ -40,6 +41,38 @@ public interface EventProcessor<T extends Event>{
 	 */
 	boolean doEvent(T event);
 
+	/**
+	 * ҵ
+	 * һڴ䷢¼,ŲµĲֽӳٶ
+	 * ¼ӳٶоܾʱ򷵻false
+	 */
+	boolean doEvents(List<T> events);
+
+	/**
+	 * ǰӳٶе
+	 */
+	int getOverflowSize();
+
+	/**
+	 * ӳٶеķֵ
+	 */
+	int getPeakOverflowSize();
+
+	/**
+	 * ӳٶе¼
+	 */
+	long getOverflowCount();
+
+	/**
+	 * Ϊӳٶܾ߶¼
+	 */
+	long getRejectCount();
+
+	/**
+	 * ۲⵽;¼ֵ,ڻСԶ
+	 */
+	int getPeakInFlight();
+
 	/**
 	 * ô
 	 */
@@ -1,21 +1,29 @@
 package com.jurassic.core.processor.impl;
 
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
 
 import com.jurassic.core.handler.AbstractHandler;
+import com.jurassic.core.handler.OverflowPolicy;
+import com.jurassic.core.util.MpscArrayQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.jurassic.core.bus.Constant;
 import com.jurassic.core.processor.EventProcessor;
 import com.jurassic.core.event.Event;
-import com.jurassic.core.event.FireDelayEvent;
 import com.jurassic.core.event.EventTranslator;
 import com.jurassic.core.event.EventWrapper;
+import com.lmax.disruptor.RingBuffer;
 import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
 
 /**
  * EventProcessorʵֻ
@@ -37,18 +45,49 @@ public abstract class AbstractEventProcessor<T extends Event> implements
 	// ¼
 	protected EventTranslator<T> _translator = new EventTranslator<>();
 	// ӳִе¼,ȴаFIFOĲԴʱ޷õ¼
-	protected Queue<T> _delayQueue = new ConcurrentLinkedQueue<>();
+	// ĬϲƴС,ʽнԵʱʹн,֮õĲԾܾ
+	protected final Queue<T> _delayQueue;
+	// ӳٶеſձ־,ͬһʱֻһ߳ſӳٶ,֤¼FIFO
+	// ͬʱ֤ӳٶֻһ,ģʽҲڴлеķ
+	private final AtomicBoolean _draining = new AtomicBoolean(false);
+	// Ƿǵģʽ,ڴʱþ
+	private boolean _singleProducer = false;
+	// ӳٶʱľܾ
+	private final OverflowPolicy _overflowPolicy;
+	// BLOCKԵĳʱʱ(ns)
+	private final long _overflowTimeout;
+	// ӳٶе¼
+	private final AtomicLong _overflowCount = new AtomicLong(0);
+	// ܾ߶¼
+	private final AtomicLong _rejectCount = new AtomicLong(0);
+	// ӳٶеĵǰ,ƴСĶмsizeҪ,ﵥ
+	private final AtomicInteger _overflowSize = new AtomicInteger(0);
+	// ӳٶеķֵ
+	private final AtomicInteger _peakOverflowSize = new AtomicInteger(0);
+	// ;¼(мӳٶ)ķֵ
+	private final AtomicInteger _peakInFlight = new AtomicInteger(0);
 
 	protected static Logger logger = LoggerFactory.getLogger(AbstractEventProcessor.class);
 
 	public AbstractEventProcessor(AbstractHandler handler)  {
 		this._handler = handler;
+		this._overflowPolicy = handler.getOverflowPolicy();
+		this._delayQueue = this._overflowPolicy == OverflowPolicy.UNBOUNDED ?
+				new ConcurrentLinkedQueue<>() : new MpscArrayQueue<>(1 << handler.getPowerOfOverflow());
+		this._overflowTimeout = TimeUnit.MILLISECONDS.toNanos(handler.getOverflowTimeout());
 	}
 
 	public AbstractHandler getHandler() {
 		return this._handler;
 	}
 
+	/**
+	 * еģʽ
+	 */
+	protected ProducerType getProducerType() {
+		return this._singleProducer ? ProducerType.SINGLE : ProducerType.MULTI;
+	}
+
 	/**
 	 * ʼ
 	 */
@@ -63,12 +102,8 @@ public abstract class AbstractEventProcessor<T extends Event> implements
 		// ȴȻδĵ¼
 		// ȴЩ¼
 		while (!this._delayQueue.isEmpty()) {
-			T event = this._delayQueue.poll();
-			// Խеdelay¼뵽Ĵ
-			while (!this._disruptor.getRingBuffer().tryPublishEvent(
-					this._translator, event)) {
-				LockSupport.parkNanos(1000000L);
-			}
+			this.drainDelayQueue();
+			LockSupport.parkNanos(1000000L);
 		}
 		// ȴеĴrunningevent
 		while (this.hasDealingEvent()) {
@@ -84,43 +119,219 @@ public abstract class AbstractEventProcessor<T extends Event> implements
 		if (!this._started) {
 			return false;
 		}
-		if (event instanceof FireDelayEvent) {
-			// ʱ¼ԽdelayQueueе¼뵽Ĵ
-			if (!this._delayQueue.isEmpty()) {
-				// ӳٶвյĻ,Щɳ¼
-				while (!this._delayQueue.isEmpty()) {
-					T delay = this._delayQueue.peek();
-					// Դӳ¼
-					boolean success = this._disruptor.getRingBuffer()
-								.tryPublishEvent(this._translator, delay);
-					if (success) {
-						// ɹ,¼delay,ͬʱһӳ¼
-						this._delayQueue.poll();
+		// ¼ָķʱ
+		event.publish();
+		if (this._delayQueue.isEmpty() && this.tryPublish(event)) {
+			// ûdelay¼,ֱӷ¼
+			return true;
+		}
+		// Ѿdelay¼FIFOԭ򣬽뵽delayQueue
+		boolean accepted = this.overflow(event);
+		this.drainDelayQueue();
+		return accepted;
+	}
+
+	@SuppressWarnings("unchecked")
+	public boolean doEvents(List<T> events) {
+		// һر,µ¼
+		if (!this._started) {
+			return false;
+		}
+		int size = events.size();
+		if (size == 0) {
+			return true;
+		}
+		for (T event : events) {
+			// ¼ָķʱ
+			event.publish();
+		}
+		int published = 0;
+		if (this._delayQueue.isEmpty()) {
+			// ûdelay¼,մеʣ
+			published = this.tryPublish((T[]) events.toArray(new Event[size]));
+		}
+		// ûзĲְFIFOԭ뵽delayQueue
+		boolean accepted = true;
+		if (published < size) {
+			for (int i = published; i < size; i++) {
+				accepted &= this.overflow(events.get(i));
+			}
+			this.drainDelayQueue();
+		}
+		return accepted;
+	}
+
+	/**
+	 * Խ¼
+	 * ģʽ·Ҫſձ־,֤ͬһʱֻһ̲߳sequencer
+	 */
+	private boolean tryPublish(T event) {
+		RingBuffer<EventWrapper<T>> ringBuffer = this._disruptor.getRingBuffer();
+		if (!this._singleProducer) {
+			return ringBuffer.tryPublishEvent(this._translator, event);
+		}
+		if (!this._draining.compareAndSet(false, true)) {
+			// ߳ڷ,¼ӳٶ为𷢲
+			return false;
+		}
+		try {
+			return ringBuffer.tryPublishEvent(this._translator, event);
+		} finally {
+			this._draining.set(false);
+		}
+	}
+
+	/**
+	 * Խһ¼,طɹ¼
+	 * һtryPublishEventsֻsequencerһ
+	 */
+	private int tryPublish(T[] batch) {
+		if (this._singleProducer && !this._draining.compareAndSet(false, true)) {
+			return 0;
+		}
+		try {
+			RingBuffer<EventWrapper<T>> ringBuffer = this._disruptor.getRingBuffer();
+			int published = 0;
+			while (published < batch.length) {
+				int n = (int) Math.min(batch.length - published, ringBuffer.remainingCapacity());
+				if (n <= 0 || !ringBuffer.tryPublishEvents(
+						this._translator, published, n, batch)) {
+					// ռ
+					break;
+				}
+				published += n;
+			}
+			return published;
+		} finally {
+			if (this._singleProducer)
+				this._draining.set(false);
+		}
+	}
+
+	/**
+	 * ¼ӳٶ
+	 * ӳٶʱմõĲԴ,¼ܾ߶false
+	 * false¼Ȼɵ߳,Ϊڳռ䶪¼ͷ
+	 */
+	private boolean overflow(T event) {
+		if (this._delayQueue.offer(event)) {
+			this.countOverflow();
+			return true;
+		}
+		switch (this._overflowPolicy) {
+			case DROP_NEWEST:
+				// ֱӶµ¼,֪¼ûб
+				break;
+			case DROP_OLDEST:
+				// ¼ڳռ
+				// Ҫſձ־,֤ӳٶֻһ
+				while (!this._delayQueue.offer(event)) {
+					if (this._draining.compareAndSet(false, true)) {
+						try {
+							T dropped = this._delayQueue.poll();
+							if (dropped != null) {
+								// ¼ٱ,ͷ,ػ¼Ի
+								this._overflowSize.decrementAndGet();
+								this._rejectCount.incrementAndGet();
+								dropped.release();
+							}
+						} finally {
+							this._draining.set(false);
+						}
 					} else {
-						// ûзɹ,delay¼ȴһfire
-						// ΪFIFOԭ,˺¼ж
-						break;
+						Thread.yield();
 					}
 				}
-			}
-		} else {
-			// ¼
-			// ¼ָķʱ
-			event.publish();
-			if (this._delayQueue.isEmpty()) {
-				// ûdelay¼,ֱӳԷ¼
-				boolean success = this._disruptor.getRingBuffer().tryPublishEvent(
-						this._translator, event);
-				if (!success) {
-					// 뵽delayQueue
-					this._delayQueue.add(event);
+				this.countOverflow();
+				return true;
+			case BLOCK:
+				// ȴͷſռ,ʱܾ
+				long deadline = System.nanoTime() + this._overflowTimeout;
+				do {
+					this.drainDelayQueue();
+					if (this._delayQueue.offer(event)) {
+						this.countOverflow();
+						return true;
+					}
+					LockSupport.parkNanos(100000L);
+				} while (System.nanoTime() - deadline < 0);
+				break;
+			default:
+				break;
+		}
+		this._rejectCount.incrementAndGet();
+		return false;
+	}
+
+	/**
+	 * ͳƽӳٶе¼
+	 */
+	private void countOverflow() {
+		this._overflowCount.incrementAndGet();
+		int size = this._overflowSize.incrementAndGet();
+		updatePeak(this._peakOverflowSize, size);
+		// ¼ʱ
+		updatePeak(this._peakInFlight, this._ringBufferSize + size);
+	}
+
+	/**
+	 * ¼һȡ¼,Ϊ;¼Ĳ
+	 */
+	void sampleInFlight(int inFlight) {
+		updatePeak(this._peakInFlight, inFlight);
+	}
+
+	private static void updatePeak(AtomicInteger peak, int value) {
+		int old;
+		while (value > (old = peak.get())) {
+			if (peak.compareAndSet(old, value))
+				break;
+		}
+	}
+
+	public int getOverflowSize() {
+		return this._overflowSize.get();
+	}
+
+	public int getPeakOverflowSize() {
+		return this._peakOverflowSize.get();
+	}
+
+	public long getOverflowCount() {
+		return this._overflowCount.get();
+	}
+
+	public long getRejectCount() {
+		return this._rejectCount.get();
+	}
+
+	public int getPeakInFlight() {
+		return this._peakInFlight.get();
+	}
+
+	/**
+	 * ӳٶе¼FIFO˳򾡿ܵķ
+	 * ÿͷһеĿռ,ӳ¼ʱӴ
+	 * ¼ӳٶкҲһ,⹤Ѿе¼
+	 */
+	protected void drainDelayQueue() {
+		RingBuffer<EventWrapper<T>> ringBuffer = this._disruptor.getRingBuffer();
+		// ͷſձ־Ҫٴμ,ֹ߳ͷŵĿռ䱻
+		while (!this._delayQueue.isEmpty()
+				&& ringBuffer.remainingCapacity() > 0
+				&& this._draining.compareAndSet(false, true)) {
+			try {
+				T delay;
+				while ((delay = this._delayQueue.peek()) != null
+						&& ringBuffer.tryPublishEvent(this._translator, delay)) {
+					// ɹ,¼delay,ͬʱһӳ¼
+					this._delayQueue.poll();
+					this._overflowSize.decrementAndGet();
 				}
-			} else {
-				// delay¼FIFOԭ򣬽뵽delayQueue
-				this._delayQueue.add(event);
+			} finally {
+				this._draining.set(false);
 			}
 		}
-		return true;
 	}
 
 	public synchronized boolean start(ExecutorService es) {
@@ -128,6 +339,7 @@ public abstract class AbstractEventProcessor<T extends Event> implements
 			return true;
 
 		// ʼprocessor
+		this._singleProducer = this._handler.isSingleProducer();
 		this._disruptor = this.initProcessor(es);
 		if (this._disruptor == null) {
 			// ʼʧ
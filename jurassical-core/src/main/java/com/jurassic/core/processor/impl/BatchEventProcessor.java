@@ -2,7 +2,6 @@ package com.jurassic.core.processor.impl;
 
 import java.util.concurrent.ExecutorService;
 
-import com.jurassic.core.bus.Constant;
 import com.jurassic.core.event.Event;
 import com.jurassic.core.event.EventFactory;
 import com.jurassic.core.event.EventWrapper;
@@ -30,10 +29,7 @@ public class BatchEventProcessor<T extends Event> extends
 		this._worker = worker;
 		// Ϊָ߼
 		this._worker.setHandler(handler);
-		// ʼ
-		if (power > Constant.DRPT_MAX_DATA_SIZE_POWER) {
-			power = Constant.DRPT_MAX_DATA_SIZE_POWER;
-		}
+		// ʼ,ĴСڲʱѾУ
 		if (power > 0) {
 			this._ringBufferSize = (1 << power);
 		}
@@ -42,8 +38,10 @@ public class BatchEventProcessor<T extends Event> extends
 	@SuppressWarnings("unchecked")
 	protected Disruptor<EventWrapper<T>> initProcessor(ExecutorService es) {
 		Disruptor<EventWrapper<T>> disruptor = new Disruptor<>(
-				new EventFactory<>(), this._ringBufferSize, es);
-		disruptor.handleEventsWith(this._worker);
+				new EventFactory<>(), this._ringBufferSize, es,
+				this.getProducerType(), this._handler.getWaitStrategy().create());
+		// ߴһ¼ſӳٶ
+		disruptor.handleEventsWith(new DrainEventHandler<>(this._worker, this));
 		return disruptor;
 	}
 }
@@ -0,0 +1,47 @@
+package com.jurassic.core.processor.impl;
+
+import com.jurassic.core.event.Event;
+import com.jurassic.core.event.EventWrapper;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.Sequence;
+import com.lmax.disruptor.SequenceReportingEventHandler;
+
+/**
+ * ߵİװ
+ * ÿһ¼ɺǰ㱨,ͷŴеĿռ
+ * Ȼɹ߳Լſմӳٶ
+ *
+ * @author yzhu
+ */
+class DrainEventHandler<T extends Event> implements
+		SequenceReportingEventHandler<EventWrapper<T>> {
+
+	private final EventHandler<EventWrapper<T>> _worker;// ʵʵĹ
+	private final AbstractEventProcessor<T> _processor;// Ĵ
+	private Sequence _sequenceCallback;// 
+	private int _batchSize = 0;// ǰε¼
+
+	DrainEventHandler(EventHandler<EventWrapper<T>> worker,
+					  AbstractEventProcessor<T> processor) {
+		this._worker = worker;
+		this._processor = processor;
+	}
+
+	public void setSequenceCallback(Sequence sequenceCallback) {
+		this._sequenceCallback = sequenceCallback;
+	}
+
+	public void onEvent(EventWrapper<T> wrapper, long sequence,
+						boolean endOfBatch) throws Exception {
+		this._worker.onEvent(wrapper, sequence, endOfBatch);
+		this._batchSize++;
+		if (endOfBatch) {
+			// һȡ¼οʼʱ;¼
+			this._processor.sampleInFlight(this._batchSize);
+			this._batchSize = 0;
+			// һν,ͷѾĿռſӳٶ
+			this._sequenceCallback.set(sequence);
+			this._processor.drainDelayQueue();
+		}
+	}
+}
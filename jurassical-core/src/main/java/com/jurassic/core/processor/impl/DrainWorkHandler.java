@@ -0,0 +1,28 @@
+package com.jurassic.core.processor.impl;
+
+import com.jurassic.core.event.Event;
+import com.jurassic.core.event.EventWrapper;
+import com.lmax.disruptor.WorkHandler;
+
+/**
+ * ̳߳عߵİװ
+ * ÿһ¼ɺɹ߳Լſմӳٶ
+ *
+ * @author yzhu
+ */
+class DrainWorkHandler<T extends Event> implements WorkHandler<EventWrapper<T>> {
+
+	private final WorkHandler<EventWrapper<T>> _worker;// ʵʵĹ
+	private final AbstractEventProcessor<T> _processor;// Ĵ
+
+	DrainWorkHandler(WorkHandler<EventWrapper<T>> worker,
+					 AbstractEventProcessor<T> processor) {
+		this._worker = worker;
+		this._processor = processor;
+	}
+
+	public void onEvent(EventWrapper<T> wrapper) throws Exception {
+		this._worker.onEvent(wrapper);
+		this._processor.drainDelayQueue();
+	}
+}
@@ -1,13 +1,16 @@
 package com.jurassic.core.processor.impl;
 
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.locks.LockSupport;
 
-import com.jurassic.core.bus.Constant;
 import com.jurassic.core.event.Event;
 import com.jurassic.core.event.EventFactory;
 import com.jurassic.core.event.EventWrapper;
 import com.jurassic.core.handler.AbstractHandler;
 import com.jurassic.core.processor.WorkHandler;
+import com.jurassic.core.thread.ComponentThreadPool;
+import com.jurassic.core.thread.VirtualThreadExecutor;
 import com.lmax.disruptor.dsl.Disruptor;
 
 /**
@@ -23,6 +26,7 @@ public class SingleEventProcessor<T extends Event> extends
 
 	private final WorkHandler<EventWrapper<T>>[] _workers;// Ĺߣ߼
 	// ߵʹǰ߳Ӧһ߶Ӧһ߳
+	private VirtualWorkHandler<T> _virtualWorker;// ߳ģʽµķַ
 
 	public SingleEventProcessor(
 			AbstractHandler handler, WorkHandler<EventWrapper<T>>[] workers, int power) {
@@ -32,21 +36,49 @@ public class SingleEventProcessor<T extends Event> extends
 			// ùߣΪÿָ߼
 			worker.setHandler(handler);
 		}
-		// ʼ
-		if (power > Constant.DRPT_MAX_DATA_SIZE_POWER) {
-			power = Constant.DRPT_MAX_DATA_SIZE_POWER;
-		}
+		// ʼ,ĴСڲʱѾУ
 		if (power > 0) {
 			this._ringBufferSize = (1 << power);
 		}
 	}
 
+	@SuppressWarnings("unchecked")
 	protected Disruptor<EventWrapper<T>> initProcessor(ExecutorService es) {
 		// disruptorWorker
 		Disruptor<EventWrapper<T>> disruptor = new Disruptor<>(
-				new EventFactory<>(), this._ringBufferSize, es);
-		disruptor.handleEventsWithWorkerPool(this._workers);
+				new EventFactory<>(), this._ringBufferSize, es,
+				this.getProducerType(), this._handler.getWaitStrategy().create());
+		if (this._handler.isVirtualThread()) {
+			// ߳ģʽ,ֻҪһַ,¼ִ߳
+			Executor executor = es instanceof ComponentThreadPool ?
+					((ComponentThreadPool) es).getVirtualExecutor() :
+					new VirtualThreadExecutor(null, null);
+			this._virtualWorker = new VirtualWorkHandler<>(this._workers, executor);
+			disruptor.handleEventsWithWorkerPool(
+					new DrainWorkHandler<>(this._virtualWorker, this));
+			return disruptor;
+		}
+		// ߴ¼ſӳٶ
+		com.lmax.disruptor.WorkHandler<EventWrapper<T>>[] workers
+				= new com.lmax.disruptor.WorkHandler[this._workers.length];
+		for (int i = 0; i < workers.length; i++) {
+			workers[i] = new DrainWorkHandler<>(this._workers[i], this);
+		}
+		disruptor.handleEventsWithWorkerPool(workers);
 		return disruptor;
 	}
 
+	public boolean hasDealingEvent() {
+		return super.hasDealingEvent()
+				|| (this._virtualWorker != null && this._virtualWorker.isRunning());
+	}
+
+	public synchronized void shutdown() {
+		super.shutdown();
+		// ȴ߳ϵ¼ִ
+		while (this._virtualWorker != null && this._virtualWorker.isRunning()) {
+			LockSupport.parkNanos(1000000L);
+		}
+	}
+
 }
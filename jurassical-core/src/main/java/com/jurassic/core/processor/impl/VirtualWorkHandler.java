@@ -0,0 +1,65 @@
+package com.jurassic.core.processor.impl;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+
+import com.jurassic.core.event.Event;
+import com.jurassic.core.event.EventWrapper;
+import com.lmax.disruptor.WorkHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ߳ģʽķַ
+ * Ӵȡ¼ͷŲλ,¼ִ߳
+ * ÿһִе¼ռһ,еĹַ߳,֮ѹ,γɱѹ
+ *
+ * @author yzhu
+ */
+class VirtualWorkHandler<T extends Event> implements WorkHandler<EventWrapper<T>> {
+
+	private static final Logger logger = LoggerFactory.getLogger(VirtualWorkHandler.class);
+
+	private final BlockingQueue<WorkHandler<EventWrapper<T>>> _idleWorkers;// еĹ
+	private final Executor _executor;// ִ߳
+	private final int _maxConcurrency;// 󲢷,ߵ
+
+	VirtualWorkHandler(WorkHandler<EventWrapper<T>>[] workers, Executor executor) {
+		this._executor = executor;
+		this._maxConcurrency = workers.length;
+		this._idleWorkers = new ArrayBlockingQueue<>(workers.length);
+		for (WorkHandler<EventWrapper<T>> worker : workers) {
+			this._idleWorkers.add(worker);
+		}
+	}
+
+	public void onEvent(EventWrapper<T> wrapper) throws Exception {
+		WorkHandler<EventWrapper<T>> worker = this._idleWorkers.take();
+		// ¼תƵķװ,еĲλԱ
+		EventWrapper<T> running = new EventWrapper<>();
+		running.setEvent(wrapper.getEvent());
+		wrapper.reset();
+		try {
+			this._executor.execute(() -> {
+				try {
+					worker.onEvent(running);
+				} catch (Throwable ex) {
+					logger.warn(ex.getMessage(), ex);
+				} finally {
+					this._idleWorkers.offer(worker);
+				}
+			});
+		} catch (Throwable ex) {
+			this._idleWorkers.offer(worker);
+			throw ex;
+		}
+	}
+
+	/**
+	 * жǷִ߳е¼
+	 */
+	boolean isRunning() {
+		return this._idleWorkers.size() < this._maxConcurrency;
+	}
+}
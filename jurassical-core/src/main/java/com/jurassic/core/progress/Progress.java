@@ -1,14 +1,25 @@
 package com.jurassic.core.progress;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
+import com.jurassic.core.bus.EventBus;
+import com.jurassic.core.bus.Route;
+import com.jurassic.core.global.GlobalInstRegisterTable;
 import com.jurassic.core.progress.handler.pin.Pin;
 import com.jurassic.core.notification.ResultNotification;
+import com.jurassic.core.progress.factory.ProgressGraph;
+import com.jurassic.core.progress.factory.ProgressPool;
 import com.jurassic.core.progress.task.EndTask;
 import com.jurassic.core.progress.task.StartTask;
 import com.jurassic.core.progress.task.Task;
+import com.jurassic.core.progress.task.TimeoutTask;
+import com.jurassic.core.time.TimingWheel;
 
 
 /**
@@ -24,12 +35,15 @@ public class Progress {
 	public final static int S_RUN = 1;// ִstart,ʼִ
 	public final static int S_INTERRUPTED = 2;// ִй,ĳЩϷжϽ
 	public final static int S_END = 3;// 
-	private int _status;// ̵״̬
+	// ̵״̬,ӵʱͬһ̵ڶ߳,жͨCASֻһ
+	private static final AtomicIntegerFieldUpdater<Progress> STATUS =
+			AtomicIntegerFieldUpdater.newUpdater(Progress.class, "_status");
+	private volatile int _status;
 
 	// ̵Ϣ
 	private final String _packageKey;// key
 	private final String _progressKey;// ҵ̵
-	private final List<Task> _tasks = new ArrayList<>();// е
+	private final ArrayList<Task> _tasks = new ArrayList<>();// е,±꼴ı
 	private final StartTask _startTask;// ʼ
 	private final EndTask _endTask;// 
 
@@ -37,25 +51,41 @@ public class Progress {
 	// ҵָҵݵ
 	// ִе󴥷֪ͨ,ҵ첽֪ͨ
 	private Task _endPoint;// notification
-	private ResultNotification _notification;// صӿ
+	private static final AtomicReferenceFieldUpdater<Progress, ResultNotification> NOTIFICATION =
+			AtomicReferenceFieldUpdater.newUpdater(Progress.class, ResultNotification.class, "_notification");
+	private volatile ResultNotification _notification;// صӿ,֪֮ͨÿ,ֻ֤֪ͨһ
 	private Pin _result;// ȡ̽Ľӿ
 
 	// ̵쳣
 	// 쳣,ÿĿΪ3Ԫ:
 	// ǰ2˵쳣Χ,ָ쳣
-	private final List<Task[]> _catchTbl;
+	private List<Task[]> _catchTbl;
+
+	// ɱͼ,ӹϵ쳣ͼ
+	// ʵֻݹܽ
+	private ProgressGraph _graph;// ͼ,ֹΪnull
+	private Pin[] _pins;// ͼоܽźתʵ
 
 	private final AtomicInteger _runningNum;// ̵м
 	private Progress _parent;// 
 
 	private ProgressMonitor _monitor;// ̵ļ
+	private Route _epuRoute;// EPUƬ·
+
+	// ̳е,񾭹EPUͳܻ֮
+	private static final AtomicIntegerFieldUpdater<Progress> REF_COUNT =
+			AtomicIntegerFieldUpdater.newUpdater(Progress.class, "_refCount");
+	private ProgressPool _pool;// ̳,ʹ̳صΪnull
+	private volatile int _refCount = 0;// ü
+	private volatile int _generation = 0;// ̱õĴ,ʶڵĳʱ
+
+	private TimingWheel.Timeout _timeout;// ֹ̽ʱĶʱ
 
 	public Progress(String packageKey, String progressKey, AtomicInteger runningNum) {
 		this._packageKey = packageKey;
 		this._progressKey = progressKey;
 		this._runningNum = runningNum;
 		this._status = S_INIT;
-		this._catchTbl = new ArrayList<>();
 		// ʼ̵ʱԶ̵ʼͽ
 		this._startTask = new StartTask(this);
 		this._endTask = new EndTask(this);
@@ -65,6 +95,17 @@ public class Progress {
 		this._monitor = monitor;
 	}
 
+	public void setEpuRoute(Route route) {
+		this._epuRoute = route;
+	}
+
+	/**
+	 * ڰEPU·,ɺͨ·ύEPU
+	 */
+	public Route getEpuRoute() {
+		return this._epuRoute;
+	}
+
 	public void setParent(Progress parent){
 		this._parent = parent;
 	}
@@ -77,6 +118,14 @@ public class Progress {
 	 * ݷҵ֮Ӧ쳣
 	 */
 	public Task findErrorEntry(Task task) {
+		if (task.getId() < 0)
+			return null;// ʱκ쳣Χ
+		if (this._graph != null) {
+			int entry = this._graph.findErrorEntry(task.getId());
+			return entry != -1 ? this._tasks.get(entry) : null;
+		}
+		if (this._catchTbl == null)
+			return null;
 		for (Task[] entry : this._catchTbl) {
 			// ڲΧ֮,򷵻쳣
 			// ÿһcatch entry˼쳣ķΧϽ,½쳣
@@ -93,6 +142,8 @@ public class Progress {
 	public void addCatchTable(Task start, Task end, Task errorEntry) {
 		if (start == null || end == null || errorEntry == null)
 			return;
+		if (this._catchTbl == null)
+			this._catchTbl = new ArrayList<>();
 		_catchTbl.add(new Task[] { start, end, errorEntry });
 	}
 
@@ -131,25 +182,23 @@ public class Progress {
 	 * ֪ͨ
 	 */
 	public void notifyResult() {
-		if (this._notification == null)
+		// һֻ֪ͨһ
+		ResultNotification notification = NOTIFICATION.getAndSet(this, null);
+		if (notification == null)
 			return;
 		// 
-		Object result = this.getResult();
-		this._notification.notify(result);
-		// һֻ֪ͨһ
-		this._notification = null;
+		notification.notify(this.getResult());
 	}
 
 	/**
 	 * ֪ͨ쳣
 	 */
 	public void notifyError(Throwable ex) {
-		if (this._notification == null)
-			return;
-		// 
-		this._notification.notify(ex);
 		// һֻ֪ͨһ
-		this._notification = null;
+		ResultNotification notification = NOTIFICATION.getAndSet(this, null);
+		if (notification == null)
+			return;
+		notification.notify(ex);
 	}
 
 	public Task getEndpoint() {
@@ -174,9 +223,17 @@ public class Progress {
 
 	/**
 	 * ̷쳣ж
+	 * Ƿɱεж,ѾжϻѾ̷false,
+	 * ֻзtrueĵ߸֪ͨ쳣ͷ쳣
 	 */
-	public void happenException() {
-		this._status = S_INTERRUPTED;
+	public boolean happenException() {
+		int status;
+		do {
+			status = this._status;
+			if (status == S_INTERRUPTED || status == S_END)
+				return false;
+		} while (!STATUS.compareAndSet(this, status, S_INTERRUPTED));
+		return true;
 	}
 
 	/**
@@ -187,6 +244,13 @@ public class Progress {
 		// ̱״̬Ϊend,Ϊinterrupted
 		if (this._status != S_INTERRUPTED)
 			this._status = S_END;
+		// Ѿ,ȡֹʱĶʱ
+		if (this._timeout != null) {
+			this._timeout.cancel();
+			this._timeout = null;
+		}
+		// ûûо,ʱ֪ͨڵȴ,Ϊ̵(Ϊnull)
+		this.notifyResult();
 		// ͬʱͳϢ
 		if (this._runningNum != null) {
 			this._runningNum.decrementAndGet();
@@ -204,6 +268,13 @@ public class Progress {
 		return this._status == S_INTERRUPTED;
 	}
 
+	/**
+	 * жһҵǷѾ
+	 */
+	public boolean isEnded() {
+		return this._status == S_END;
+	}
+
 	/**
 	 * TaskChainִнֹʱ
 	 */
@@ -211,6 +282,36 @@ public class Progress {
 		for (Task t : this._tasks) {
 			t.setCutOffTime(time);
 		}
+		// ɵʱEPUֹʱ,ʱָûɵʱʱ
+		TimingWheel timingWheel = GlobalInstRegisterTable.getInst(
+				TimingWheel.GLOBAL_KEY, TimingWheel.class);
+		if (timingWheel != null) {
+			if (this._timeout != null)
+				this._timeout.cancel();
+			int generation = this._generation;
+			this._timeout = timingWheel.schedule(() -> this.expire(generation),
+					time - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * ֹʱ䵽,ʱ͸ڵEPUƬ,EPUж
+	 * ʱִ߳
+	 */
+	private void expire(int generation) {
+		Route route = this._epuRoute;
+		if (generation != this._generation || route == null
+				|| this._status == S_END || this._status == S_INTERRUPTED)
+			return;
+		EventBus eventBus = GlobalInstRegisterTable.getInst(
+				EventBus.GLOBAL_KEY, EventBus.class);
+		try {
+			eventBus.fire(route, new TimeoutTask(this, generation));
+		} catch (Throwable ignored) {}
+	}
+
+	public int getGeneration() {
+		return this._generation;
 	}
 
 	public String getProgressKey() {
@@ -219,9 +320,92 @@ public class Progress {
 
 	/**
 	 * ½ʱ򣬽½ӵ
+	 * еı
 	 */
-	public void addTask(Task task) {
+	public int addTask(Task task) {
 		this._tasks.add(task);
+		return this._tasks.size() - 1;
+	}
+
+	/**
+	 * ñŶӦ
+	 */
+	public Task getTask(int id) {
+		return this._tasks.get(id);
+	}
+
+	/**
+	 * 󶨱ͼ,ͼ֮ǰ
+	 */
+	public void bindGraph(ProgressGraph graph) {
+		this._graph = graph;
+		this._tasks.ensureCapacity(graph.getTaskNum());
+		if (graph.getPinNum() > 0)
+			this._pins = new Pin[graph.getPinNum()];
+	}
+
+	public ProgressGraph getGraph() {
+		return this._graph;
+	}
+
+	/**
+	 * ͼоܽŻתʵ
+	 */
+	public Pin getPin(int slot) {
+		return this._pins[slot];
+	}
+
+	public void setPin(int slot, Pin pin) {
+		this._pins[slot] = pin;
+	}
+
+	/**
+	 * ̳зʱ̳
+	 */
+	public void attach(ProgressPool pool) {
+		this._pool = pool;
+		this._refCount = 2;
+	}
+
+	/**
+	 * ͷһ,EPUԼͳƴʱ
+	 * ü̳̽
+	 */
+	public void release() {
+		ProgressPool pool = this._pool;
+		if (pool != null && REF_COUNT.decrementAndGet(this) == 0) {
+			this._pool = null;
+			pool.free(this);
+		}
+	}
+
+	/**
+	 * жǷԻո
+	 * жϵִܻ̿,ܸ
+	 */
+	public boolean isRecyclable() {
+		return this._status == S_END && this._graph != null
+				&& this._graph.isRecyclable();
+	}
+
+	/**
+	 * ̵״̬,ͼ
+	 */
+	public void recycle() {
+		this._generation++;
+		this._timeout = null;
+		this._status = S_INIT;
+		this._endPoint = null;
+		this._notification = null;
+		this._result = null;
+		this._parent = null;
+		this._monitor = null;
+		this._epuRoute = null;
+		if (this._pins != null)
+			Arrays.fill(this._pins, null);
+		for (int i = 0; i < this._tasks.size(); i++) {
+			this._tasks.get(i).reuse();
+		}
 	}
 
 	public Task getEndTask() {
@@ -0,0 +1,227 @@
+package com.jurassic.core.progress.factory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+
+import com.jurassic.core.progress.Progress;
+import com.jurassic.core.progress.handler.pin.CompositePin;
+import com.jurassic.core.progress.handler.pin.ConstantPin;
+import com.jurassic.core.progress.handler.pin.EmptyPin;
+import com.jurassic.core.progress.handler.pin.ListPin;
+import com.jurassic.core.progress.handler.pin.ObjectPin;
+import com.jurassic.core.progress.handler.pin.Pin;
+import com.jurassic.core.progress.handler.pin.express.DataType;
+import com.jurassic.core.progress.handler.pin.express.Express;
+
+/**
+ * ݹܽŶ
+ * ģʱеùϵ,̵ʱֻҪնɹܽʵ
+ *
+ * @author yzhu
+ */
+public abstract class PinTemplate {
+
+	/**
+	 * Ϊɹܽʵ
+	 */
+	public abstract Pin create(Progress progress, Pin[] params) throws Exception;
+
+	/**
+	 * ʱȷ(DataType),ȷʱΪ-1
+	 */
+	public int getDataType() {
+		return -1;
+	}
+
+	/**
+	 * ܽ,еʵͬһֻĹܽ
+	 */
+	public static PinTemplate constant(Object data) {
+		Pin pin = new ConstantPin(data);
+		return new PinTemplate() {
+			public Pin create(Progress progress, Pin[] params) {
+				return pin;
+			}
+
+			public int getDataType() {
+				return DataType.getType(pin.getData());
+			}
+		};
+	}
+
+	/**
+	 * չܽ,еʵȫֵĿչܽ
+	 */
+	public static PinTemplate empty() {
+		return new PinTemplate() {
+			public Pin create(Progress progress, Pin[] params) {
+				return EmptyPin.inst;
+			}
+		};
+	}
+
+	/**
+	 * ľ̬,ʱ,ÿδ̵ʱȡ,ÿɶĹܽ
+	 */
+	public static PinTemplate staticField(Field field) {
+		return new PinTemplate() {
+			public Pin create(Progress progress, Pin[] params) throws Exception {
+				return new ObjectPin(field.get(null));
+			}
+		};
+	}
+
+	/**
+	 * ̵,dataTypeΪ<input/>
+	 */
+	public static PinTemplate param(int index, int dataType) {
+		return new PinTemplate() {
+			public Pin create(Progress progress, Pin[] params) {
+				return params[index];
+			}
+
+			public int getDataType() {
+				return dataType;
+			}
+		};
+	}
+
+	/**
+	 * еľܽ,ͬһеùһܽʵ,dataTypeΪùܽŵ
+	 */
+	public static PinTemplate named(int slot, int dataType) {
+		return new PinTemplate() {
+			public Pin create(Progress progress, Pin[] params) throws Exception {
+				Pin pin = progress.getPin(slot);
+				if (pin == null) {
+					pin = progress.getGraph().getPinTemplate(slot).create(progress, params);
+					progress.setPin(slot, pin);
+				}
+				return pin;
+			}
+
+			public int getDataType() {
+				return dataType;
+			}
+		};
+	}
+
+	/**
+	 * ܽ
+	 */
+	public static PinTemplate output(int taskId, int pinIdx) {
+		return new PinTemplate() {
+			public Pin create(Progress progress, Pin[] params) {
+				return progress.getTask(taskId).output(pinIdx);
+			}
+		};
+	}
+
+	/**
+	 * бܽ
+	 */
+	public static PinTemplate list(PinTemplate[] elements) {
+		return new PinTemplate() {
+			public Pin create(Progress progress, Pin[] params) throws Exception {
+				ListPin pin = new ListPin();
+				for (PinTemplate element : elements) {
+					pin.add(element.create(progress, params));
+				}
+				return pin;
+			}
+		};
+	}
+
+	/**
+	 * Ϲܽ
+	 */
+	public static PinTemplate composite(Constructor<?> constructor, PinTemplate[] elements) {
+		return new PinTemplate() {
+			public Pin create(Progress progress, Pin[] params) throws Exception {
+				CompositePin pin = (CompositePin) constructor.newInstance();
+				for (PinTemplate element : elements) {
+					pin.addPin(element.create(progress, params));
+				}
+				return pin;
+			}
+		};
+	}
+
+	/**
+	 * ʽܽ,ʽỺ,ÿɶʵ
+	 * ͸Ͳڱʱƶ,ڱʽ֮ͻֵ
+	 */
+	public static PinTemplate express(Constructor<?> constructor, PinTemplate[] operands) {
+		int[] operandTypes = new int[operands.length];
+		for (int i = 0; i < operands.length; i++) {
+			operandTypes[i] = operands[i].getDataType();
+		}
+		return express(constructor, operands,
+				Express.inferType(constructor.getDeclaringClass(), operandTypes));
+	}
+
+	/**
+	 * Ѿȷıʽܽ,ڱɵıʽ
+	 */
+	public static PinTemplate express(Constructor<?> constructor, PinTemplate[] operands, int dataType) {
+		return new PinTemplate() {
+			public Pin create(Progress progress, Pin[] params) throws Exception {
+				Express express = (Express) constructor.newInstance();
+				Pin[] pins = new Pin[operands.length];
+				for (int i = 0; i < pins.length; i++) {
+					pins[i] = operands[i].create(progress, params);
+				}
+				express.setPins(pins);
+				express.setDataType(dataType);
+				return express;
+			}
+
+			public int getDataType() {
+				return dataType;
+			}
+		};
+	}
+
+	/**
+	 * Թıʽܽ,ںϲӱʽ
+	 * ֻһεʱֱʵ,ϲ֮ͨܽŵĲλͬһйһʵ
+	 */
+	public static Shared shared(PinTemplate template) {
+		return new Shared(template);
+	}
+
+	public static final class Shared extends PinTemplate {
+
+		private final PinTemplate _template;// ԭʼıʽܽŶ
+		private PinTemplate _named;// ϲ֮ľܽ,ûкϲʱΪnull
+
+		private Shared(PinTemplate template) {
+			this._template = template;
+		}
+
+		public Pin create(Progress progress, Pin[] params) throws Exception {
+			if (this._named != null)
+				return this._named.create(progress, params);
+			return this._template.create(progress, params);
+		}
+
+		public int getDataType() {
+			return this._template.getDataType();
+		}
+
+		public PinTemplate getTemplate() {
+			return this._template;
+		}
+
+		public boolean isShared() {
+			return this._named != null;
+		}
+
+		/**
+		 * 󶨵ܽŵĲλ,λĹܽŶҪΪgetTemplate()
+		 */
+		public void share(int slot) {
+			this._named = named(slot, this._template.getDataType());
+		}
+	}
+}
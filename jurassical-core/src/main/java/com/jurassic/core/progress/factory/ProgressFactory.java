@@ -1,5 +1,6 @@
 package com.jurassic.core.progress.factory;
 
+import com.jurassic.core.handler.DeployProperties;
 import com.jurassic.core.progress.Progress;
 import com.jurassic.core.progress.handler.pin.ObjectPin;
 import com.jurassic.core.progress.handler.pin.Pin;
@@ -24,6 +25,8 @@ public class ProgressFactory {
 	private Map<String, ProgressTemplate> _templateTbl = new HashMap<>();
 	// ÿ̵м
 	private Map<String, AtomicInteger> _runningProgressNums = new HashMap<>();
+	// ģӦ̳,ڲʱô
+	private Map<String, ProgressPool> _pools = new HashMap<>();
 
 	/**
 	 * 
@@ -37,9 +40,17 @@ public class ProgressFactory {
 		else {
 			// 
 			try {
-				Progress progress = new Progress(packageKey, progressKey,
-						this._runningProgressNums.get(progressKey));
-				generator.initProgress(progress, params);
+				Progress progress;
+				ProgressPool pool = this._pools.get(progressKey);
+				if (pool != null) {
+					// ̳зѾ
+					progress = pool.allocate();
+					pool.getGraph().bindProgress(progress, params);
+				} else {
+					progress = new Progress(packageKey, progressKey,
+							this._runningProgressNums.get(progressKey));
+					generator.initProgress(progress, params);
+				}
 				if (parent != null && progress != null)
 					progress.setParent(parent);
 				return progress;
@@ -59,6 +70,48 @@ public class ProgressFactory {
 				template.getProgressKey(), new AtomicInteger(0));
 	}
 
+	/**
+	 * Ϊģ崴̳زԤȴ
+	 * progress.pool.sizeΪÿ̳صĴС,0ʾʹ̳
+	 * progress.pool.prewarmΪʱԤȴ
+	 * öں.̵keyָ
+	 */
+	public void initPools(String packageKey, DeployProperties properties) {
+		for (Map.Entry<String, ProgressTemplate> entry : this._templateTbl.entrySet()) {
+			if (!(entry.getValue() instanceof ProgressGraph))
+				continue;// ֹģÿζµ,ܸ
+			String progressKey = entry.getKey();
+			int size = intProperty(properties, "progress.pool.size", progressKey);
+			if (size <= 0)
+				continue;
+			ProgressPool pool = new ProgressPool(packageKey,
+					(ProgressGraph) entry.getValue(),
+					this._runningProgressNums.get(progressKey), size);
+			int prewarm = Math.min(intProperty(
+					properties, "progress.pool.prewarm", progressKey), size);
+			try {
+				pool.prewarm(prewarm);
+			} catch (Throwable ex) {
+				logger.warn("prewarm progress " + progressKey + " fail", ex);
+			}
+			this._pools.put(progressKey, pool);
+		}
+	}
+
+	private static int intProperty(DeployProperties properties, String key, String progressKey) {
+		String value = properties.getProperty(key + "." + progressKey);
+		if (value == null)
+			value = properties.getProperty(key);
+		if (value == null)
+			return 0;
+		try {
+			return Integer.parseInt(value.trim());
+		} catch (NumberFormatException ex) {
+			logger.warn("invalid " + key + " " + value);
+			return 0;
+		}
+	}
+
 	/**
 	 * ж̹Ƿģ
 	 */
@@ -84,6 +137,11 @@ public class ProgressFactory {
 	 * Դ
 	 */
 	public void destroyResource() {
+		for (ProgressPool pool : this._pools.values()) {
+			pool.close();
+		}
+		this._pools.clear();
+		this._pools = null;
 		this._templateTbl.clear();
 		this._templateTbl = null;
 		this._runningProgressNums.clear();
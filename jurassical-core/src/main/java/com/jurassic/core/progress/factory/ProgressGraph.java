@@ -0,0 +1,320 @@
+package com.jurassic.core.progress.factory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import com.jurassic.core.notification.ResultNotification;
+import com.jurassic.core.progress.Progress;
+import com.jurassic.core.progress.handler.pin.Pin;
+import com.jurassic.core.progress.task.JumpEndTask;
+import com.jurassic.core.progress.task.JumpStartTask;
+import com.jurassic.core.progress.task.Task;
+
+/**
+ * ͼ
+ * ģֻһ,Աűʾ,ӹϵ,ת쳣Ϊ
+ * ͼǲɱ,̵ʱֻҪõĹܽʵ
+ * ıż˳,0Ϊstart,1Ϊend,֮Ϊж
+ *
+ * @author yzhu
+ */
+public class ProgressGraph implements ProgressTemplate {
+	public static final int START = 0;// startı
+	public static final int END = 1;// endı
+
+	/**
+	 * Ĵ
+	 */
+	public interface TaskFactory {
+		Task create(Progress progress) throws Exception;
+	}
+
+	private final String _progressKey;// ̵key
+	private final TaskFactory[] _factories;// Ĵ,startend
+	private final PinTemplate[][] _inputs;// ܽ
+	private final int[] _jumpStarts;// endifӦif,Ϊ-1
+	private final int[][] _nexts;// 
+	private final int[][] _prevs;// ǰ
+	private final int[][] _conditions;// ·תĹܽŲλ,ûΪ-1
+	// ܽŲλ,ǰǾܽ,ת
+	private final PinTemplate[] _pins;
+	private final int _namedPinNum;// ܽŵ
+	private final int[] _errorEntries;// Ӧ쳣,ûΪ-1
+	private final int _endpoint;// notification,-1ʾû
+	private final PinTemplate _result;// ̵
+	private final Class<?> _notification;// ֪ͨӿڵʵ
+	private final boolean _recyclable;// ڽ֮ǰ,̿Իո
+
+	private ProgressGraph(Builder builder) {
+		int taskNum = builder._factories.size();
+		this._progressKey = builder._progressKey;
+		this._factories = builder._factories.toArray(new TaskFactory[taskNum]);
+		this._inputs = builder._inputs.toArray(new PinTemplate[taskNum][]);
+		this._jumpStarts = new int[taskNum];
+		this._nexts = new int[taskNum][];
+		this._prevs = new int[taskNum][];
+		this._conditions = new int[taskNum][];
+		for (int id = 0; id < taskNum; id++) {
+			this._jumpStarts[id] = builder._jumpStarts.get(id);
+			this._nexts[id] = toArray(builder._nexts.get(id));
+			this._prevs[id] = toArray(builder._prevs.get(id));
+			this._conditions[id] = toArray(builder._conditions.get(id));
+			// ŻΪλ
+			for (int i = 0; i < this._conditions[id].length; i++) {
+				if (this._conditions[id][i] != -1)
+					this._conditions[id][i] += builder._namedPins.size();
+			}
+		}
+		List<PinTemplate> pins = new ArrayList<>(builder._namedPins);
+		pins.addAll(builder._conditionPins);
+		this._pins = pins.toArray(new PinTemplate[0]);
+		this._namedPinNum = builder._namedPins.size();
+		this._errorEntries = this.indexErrorEntries(builder._catchTbl);
+		this._endpoint = builder._endpoint;
+		this._result = builder._result;
+		this._notification = builder._notification;
+		this._recyclable = reach(END, this._prevs).cardinality() == taskNum;
+	}
+
+	private static int[] toArray(List<Integer> list) {
+		int[] array = new int[list.size()];
+		for (int i = 0; i < array.length; i++) {
+			array[i] = list.get(i);
+		}
+		return array;
+	}
+
+	/**
+	 * 쳣,ÿӦ쳣
+	 * Ͻ֮,½,ڸĲΧ
+	 * ƥʱȶΪ׼
+	 */
+	private int[] indexErrorEntries(List<int[]> catchTbl) {
+		int[] entries = new int[this._factories.length];
+		Arrays.fill(entries, -1);
+		for (int[] entry : catchTbl) {
+			BitSet scope = reach(entry[0], this._nexts);
+			scope.and(reach(entry[1], this._prevs));
+			for (int id = scope.nextSetBit(0); id >= 0; id = scope.nextSetBit(id + 1)) {
+				if (entries[id] == -1)
+					entries[id] = entry[2];
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * fromڽӱܹ()
+	 */
+	private static BitSet reach(int from, int[][] adjacency) {
+		BitSet visited = new BitSet(adjacency.length);
+		int[] stack = new int[adjacency.length];
+		int top = 0;
+		visited.set(from);
+		stack[top++] = from;
+		while (top > 0) {
+			for (int next : adjacency[stack[--top]]) {
+				if (!visited.get(next)) {
+					visited.set(next);
+					stack[top++] = next;
+				}
+			}
+		}
+		return visited;
+	}
+
+	public void initProgress(Progress progress, Pin[] params) throws Exception {
+		this.prepareProgress(progress);
+		this.bindProgress(progress, params);
+	}
+
+	/**
+	 * Ϊ̴е,̳Ԥȴִֻһ
+	 */
+	public void prepareProgress(Progress progress) throws Exception {
+		progress.bindGraph(this);
+		// ձ˳򴴽,startendѾ̴
+		for (int id = END + 1; id < this._factories.length; id++) {
+			Task task = this._factories[id].create(progress);
+			if (task.getId() != id)
+				throw new Exception("task " + task.getClass().getName()
+						+ " is not created in order");
+		}
+		// if-endif
+		for (int id = END + 1; id < this._factories.length; id++) {
+			if (this._jumpStarts[id] != -1) {
+				((JumpEndTask) progress.getTask(id)).setJumpStartTask(
+						(JumpStartTask) progress.getTask(this._jumpStarts[id]));
+			}
+		}
+	}
+
+	/**
+	 * ΪѾע뱾Ĺܽ,̵
+	 */
+	public void bindProgress(Progress progress, Pin[] params) throws Exception {
+		// עܽ
+		for (int id = END + 1; id < this._factories.length; id++) {
+			PinTemplate[] inputs = this._inputs[id];
+			if (inputs != null) {
+				Pin[] pins = new Pin[inputs.length];
+				for (int i = 0; i < pins.length; i++) {
+					pins[i] = inputs[i].create(progress, params);
+				}
+				progress.getTask(id).input(pins);
+			}
+		}
+		// ת
+		for (int slot = this._namedPinNum; slot < this._pins.length; slot++) {
+			progress.setPin(slot, this._pins[slot].create(progress, params));
+		}
+		// ̵
+		if (this._endpoint != -1) {
+			progress.setEndpoint(progress.getTask(this._endpoint),
+					this._result != null ? this._result.create(progress, params) : null);
+			if (this._notification != null) {
+				progress.setNotification(
+						(ResultNotification) this._notification.newInstance());
+			}
+		}
+	}
+
+	public String getProgressKey() {
+		return this._progressKey;
+	}
+
+	/**
+	 * ,startend
+	 */
+	public int getTaskNum() {
+		return this._factories.length;
+	}
+
+	/**
+	 * ܽŲλ
+	 */
+	public int getPinNum() {
+		return this._pins.length;
+	}
+
+	public PinTemplate getPinTemplate(int slot) {
+		return this._pins[slot];
+	}
+
+	public int[] getNexts(int id) {
+		return this._nexts[id];
+	}
+
+	public int[] getPrevs(int id) {
+		return this._prevs[id];
+	}
+
+	public int[] getConditions(int id) {
+		return this._conditions[id];
+	}
+
+	/**
+	 * жǷԻո
+	 * ڽ֮ǰʱ,ִʱЩִܻ
+	 */
+	public boolean isRecyclable() {
+		return this._recyclable;
+	}
+
+	/**
+	 * ݷҵ֮Ӧ쳣,ûз-1
+	 */
+	public int findErrorEntry(int id) {
+		return this._errorEntries[id];
+	}
+
+	/**
+	 * ͼĹ,ɱڽ̶֮ʹ
+	 */
+	public static class Builder {
+		private final String _progressKey;
+		private final List<TaskFactory> _factories = new ArrayList<>();
+		private final List<PinTemplate[]> _inputs = new ArrayList<>();
+		private final List<Integer> _jumpStarts = new ArrayList<>();
+		private final List<List<Integer>> _nexts = new ArrayList<>();
+		private final List<List<Integer>> _prevs = new ArrayList<>();
+		private final List<List<Integer>> _conditions = new ArrayList<>();
+		private final List<PinTemplate> _namedPins = new ArrayList<>();
+		private final List<PinTemplate> _conditionPins = new ArrayList<>();
+		private final List<int[]> _catchTbl = new ArrayList<>();
+		private int _endpoint = -1;
+		private PinTemplate _result;
+		private Class<?> _notification;
+
+		public Builder(String progressKey) {
+			this._progressKey = progressKey;
+			// startend
+			this.addTask(null);
+			this.addTask(null);
+		}
+
+		/**
+		 * ,ı
+		 */
+		public int addTask(TaskFactory factory) {
+			this._factories.add(factory);
+			this._inputs.add(null);
+			this._jumpStarts.add(-1);
+			this._nexts.add(new ArrayList<>());
+			this._prevs.add(new ArrayList<>());
+			this._conditions.add(new ArrayList<>());
+			return this._factories.size() - 1;
+		}
+
+		public void setInputs(int id, PinTemplate[] inputs) {
+			this._inputs.set(id, inputs);
+		}
+
+		public void setJumpStart(int endif, int jumpStart) {
+			this._jumpStarts.set(endif, jumpStart);
+		}
+
+		/**
+		 * ܽŵĲλ,ܽŶԺ
+		 */
+		public int addNamedPin() {
+			this._namedPins.add(null);
+			return this._namedPins.size() - 1;
+		}
+
+		public void setNamedPin(int slot, PinTemplate pin) {
+			this._namedPins.set(slot, pin);
+		}
+
+		/**
+		 * ,conditionΪձʾת
+		 */
+		public void bind(int from, int to, PinTemplate condition) {
+			int slot = -1;
+			if (condition != null) {
+				// Ĳλеľ֮ܽ,ȼ¼,ɵʱٻ
+				this._conditionPins.add(condition);
+				slot = this._conditionPins.size() - 1;
+			}
+			this._nexts.get(from).add(to);
+			this._prevs.get(to).add(from);
+			this._conditions.get(from).add(slot);
+		}
+
+		public void addCatchTable(int start, int end, int errorEntry) {
+			this._catchTbl.add(new int[]{start, end, errorEntry});
+		}
+
+		public void setEndpoint(int endpoint, PinTemplate result, Class<?> notification) {
+			this._endpoint = endpoint;
+			this._result = result;
+			this._notification = notification;
+		}
+
+		public ProgressGraph build() {
+			return new ProgressGraph(this);
+		}
+	}
+}
@@ -0,0 +1,155 @@
+package com.jurassic.core.progress.factory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jurassic.core.progress.Progress;
+import com.jurassic.core.util.SimpleMutexLock;
+
+/**
+ * ̳
+ * ÿģӦһ̳,,еݽṹ
+ * ڽ񾭹EPUͳƴ֮󽻻̳
+ * ̷ֶα,ͻյ̰߳߳idѡֶ,ľ
+ *
+ * @author yzhu
+ */
+public class ProgressPool {
+
+	private static final int STRIPES = 8;// ֶ,2ݴη
+
+	private final String _packageKey;// key
+	private final ProgressGraph _graph;// ͼ
+	private final AtomicInteger _runningNum;// ̵м
+	private final Stripe[] _stripes;// ̵ķֶ
+	private volatile boolean _closed = false;// жغٻ
+
+	public ProgressPool(String packageKey, ProgressGraph graph,
+						AtomicInteger runningNum, int capacity) {
+		this._packageKey = packageKey;
+		this._graph = graph;
+		this._runningNum = runningNum;
+		int capacityOfStripe = Math.max((capacity + STRIPES - 1) / STRIPES, 1);
+		this._stripes = new Stripe[STRIPES];
+		for (int i = 0; i < STRIPES; i++) {
+			this._stripes[i] = new Stripe(capacityOfStripe);
+		}
+	}
+
+	private static int stripeOf() {
+		return (int) Thread.currentThread().getId() & (STRIPES - 1);
+	}
+
+	public ProgressGraph getGraph() {
+		return this._graph;
+	}
+
+	/**
+	 * Ԥȴ,ʵʷ̳ص
+	 */
+	public int prewarm(int num) throws Exception {
+		int prewarmed = 0;
+		for (int i = 0; i < num; i++) {
+			if (!this._stripes[i & (STRIPES - 1)].push(this.create()))
+				break;
+			prewarmed++;
+		}
+		return prewarmed;
+	}
+
+	/**
+	 * һ,̳ûп̵ʱ򴴽µ
+	 * Ѿ,Ҫͼע뱾Ĺܽ
+	 */
+	public Progress allocate() throws Exception {
+		int start = stripeOf();
+		for (int i = 0; i < STRIPES; i++) {
+			Progress progress = this._stripes[(start + i) & (STRIPES - 1)].pop();
+			if (progress != null) {
+				progress.attach(this);
+				return progress;
+			}
+		}
+		Progress progress = this.create();
+		progress.attach(this);
+		return progress;
+	}
+
+	private Progress create() throws Exception {
+		Progress progress = new Progress(this._packageKey,
+				this._graph.getProgressKey(), this._runningNum);
+		this._graph.prepareProgress(progress);
+		return progress;
+	}
+
+	/**
+	 * ,ֻ̲Żᱻ
+	 */
+	public void free(Progress progress) {
+		if (this._closed || !progress.isRecyclable())
+			return;
+		progress.recycle();
+		this._stripes[stripeOf()].push(progress);
+	}
+
+	/**
+	 * ̳,жصʱ
+	 */
+	public void close() {
+		this._closed = true;
+		for (Stripe stripe : this._stripes) {
+			stripe.clear();
+		}
+	}
+
+	/**
+	 * ̵ķֶ,ʹ
+	 */
+	private static final class Stripe {
+		private final SimpleMutexLock _lock = new SimpleMutexLock();
+		private final Progress[] _progresses;
+		private int _size = 0;
+
+		Stripe(int capacity) {
+			this._progresses = new Progress[capacity];
+		}
+
+		Progress pop() {
+			if (this._size == 0)
+				return null;
+			this._lock.lock();
+			try {
+				if (this._size == 0)
+					return null;
+				Progress progress = this._progresses[--this._size];
+				this._progresses[this._size] = null;
+				return progress;
+			} finally {
+				this._lock.unlock();
+			}
+		}
+
+		boolean push(Progress progress) {
+			this._lock.lock();
+			try {
+				if (this._size < this._progresses.length) {
+					this._progresses[this._size++] = progress;
+					return true;
+				}
+				return false;
+			} finally {
+				this._lock.unlock();
+			}
+		}
+
+		void clear() {
+			this._lock.lock();
+			try {
+				while (this._size > 0) {
+					this._progresses[--this._size] = null;
+				}
+			} finally {
+				this._lock.unlock();
+			}
+		}
+	}
+}
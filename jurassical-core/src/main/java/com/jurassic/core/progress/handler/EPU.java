@@ -8,31 +8,63 @@ import com.jurassic.core.bus.Constant;
 import com.jurassic.core.handler.AbstractHandler;
 import com.jurassic.core.progress.Progress;
 import com.jurassic.core.progress.task.Task;
+import com.jurassic.core.progress.task.TimeoutTask;
 
 /**
  * 봦
  * Ҫ¼߼
  * ÿһ¼Ϻ,봦Ҫִе¼
- * ÿһӦðԭҪṩΨһ봦
+ * ÿһӦðж봦Ƭ,ÿƬΪ߳
+ * ͬһ̵ͬһƬ,Ƭ֮䲻Ҫͬ
  * 
  * @author yzhu
  */
 public class EPU extends AbstractHandler {
+	public static final String KEY = "epu";
+
+	private final int _shard;// Ƭ
 
 	public EPU() {
+		this(0);
+	}
+
+	public EPU(int shard) {
 		super();
+		this._shard = shard;
 		this._numOfThread = 1;
 		this._powerOfBuffer = Constant.DEFAULT_EPU_POWER;
 	}
 
+	/**
+	 * һƬkeyΪepu,ƬΪepu_
+	 */
 	public String getHandlerKey() {
-		return "epu";
+		return keyOfShard(this._shard);
+	}
+
+	public static String keyOfShard(int shard) {
+		return shard == 0 ? KEY : KEY + "_" + shard;
 	}
 
 	/**
 	 * ̵һ
 	 */
 	public List<Task> calculate(Task currentTask) {
+		try {
+			return this.next(currentTask);
+		} finally {
+			if (currentTask == currentTask.getProgress().getEndTask()) {
+				// EPUԽļһʹӹϵ
+				currentTask.getProgress().release();
+			}
+		}
+	}
+
+	private List<Task> next(Task currentTask) {
+		if (currentTask instanceof TimeoutTask) {
+			// ̵Ľֹʱ䵽
+			return this.expire((TimeoutTask) currentTask);
+		}
 		Throwable error = currentTask.getError();
 		if (currentTask.getProgress().isInterrupted()
 				&& currentTask != currentTask.getProgress().getEndTask()) {
@@ -44,7 +76,9 @@ public class EPU extends AbstractHandler {
 		List<Task> nextTasks = new ArrayList<>();
 		if (error != null) {
 			// ͨ쳣̵һ
-			nextTasks.add(this.interrupt(currentTask, error));
+			Task entry = this.interrupt(currentTask, error);
+			if (entry != null)
+				nextTasks.add(entry);
 			return nextTasks;
 		}
 
@@ -53,7 +87,9 @@ public class EPU extends AbstractHandler {
 		// ִʱ,ʱ,񱻱Ϊʱ,񽫲ִȫΪcancel
 		if (outOfTime) {
 			// ִгʱ,׳timeout쳣,ִֹ,ؿͻ˸쳣
-			nextTasks.add(this.interrupt(currentTask, new TimeoutException("timeout")));
+			Task entry = this.interrupt(currentTask, new TimeoutException("timeout"));
+			if (entry != null)
+				nextTasks.add(entry);
 			return nextTasks;
 		}
 
@@ -63,26 +99,65 @@ public class EPU extends AbstractHandler {
 		}
 
 		// ǰ,̵һ
-		List<Task> tasks = currentTask.getNextTasks();
-		if (tasks != null) {
-			for (Task next : tasks) {
-				if (next.isReady()) {
+		// ÿľһ,׼
+		for (int i = 0; i < currentTask.nextSize(); i++) {
+			Task next = currentTask.nextAt(i);
+			if (currentTask.takeNext(i)) {
+				if (next.arrive(true)) {
 					// һ׼ãԼִ
 					nextTasks.add(next);
 				}
+			} else {
+				// תûѡ·
+				this.skip(next, nextTasks);
 			}
 		}
 		return nextTasks;
 	}
 
+	/**
+	 * תûѡ·
+	 * ִ,,ֱʵִ·Ļ
+	 */
+	protected void skip(Task task, List<Task> nextTasks) {
+		if (!task.arrive(false))
+			return;
+		if (task.isLive()) {
+			// ǰ·ʵִй
+			nextTasks.add(task);
+			return;
+		}
+		for (int i = 0; i < task.nextSize(); i++) {
+			this.skip(task.nextAt(i), nextTasks);
+		}
+	}
+
+	/**
+	 * ̳ʱ,TimeoutExceptionж
+	 * Ѿ,ѾжϻѾõ̺Գʱ
+	 */
+	private List<Task> expire(TimeoutTask task) {
+		Progress progress = task.getProgress();
+		if (!task.isValid() || progress.isEnded() || progress.isInterrupted())
+			return null;
+		Task entry = this.interrupt(task, new TimeoutException("timeout"));
+		if (entry == null)
+			return null;
+		List<Task> nextTasks = new ArrayList<>();
+		nextTasks.add(entry);
+		return nextTasks;
+	}
+
 	/**
 	 * ڷжϵʱӦִе
+	 * Ѿжϵʱ򷵻null,ֻж̵ĵ÷
 	 */
 	protected Task interrupt(Task interruptedTask, Throwable ex) {
 
 		Progress progress = interruptedTask.getProgress();
 		// ̵ж,ڴκθµtask,calculateĿʼж߼
-		progress.happenException();
+		if (!progress.happenException())
+			return null;
 		// ֪ͨ쳣
 		progress.notifyError(ex);
 		// ǷƥcatchTable
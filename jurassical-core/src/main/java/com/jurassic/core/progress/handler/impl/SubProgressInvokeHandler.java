@@ -53,8 +53,7 @@ public class SubProgressInvokeHandler extends TaskHandler<SubProgressInvokeTask>
             // ʼִ
             try {
                 Task start = subProgress.getStartTask();
-                this._eventBus.fire(subProgress.getPackageKey(),
-                        start.getEventKey(), start);
+                this._eventBus.fire(start);
             } catch (Throwable ex) {
                 // ʧ
                 // ԭ쳣
@@ -0,0 +1,21 @@
+package com.jurassic.core.progress.handler.pin;
+
+/**
+ * ܽ
+ * ʱ,еʵ,ݲ޸
+ *
+ * @author yzhu
+ */
+public final class ConstantPin extends Pin {
+
+	private final Object _data;// ݶ
+
+	public ConstantPin(Object data) {
+		this._data = data;
+	}
+
+	public Object getData() {
+		return this._data;
+	}
+
+}
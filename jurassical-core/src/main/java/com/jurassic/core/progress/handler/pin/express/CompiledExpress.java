@@ -0,0 +1,190 @@
+package com.jurassic.core.progress.handler.pin.express;
+
+import com.jurassic.core.progress.handler.pin.express.math.*;
+
+/**
+ * ıʽ
+ * ʽڲʱExpressCompilerΪһ,һμʽ
+ * ȷֱʹûͼ,Ͳȷľ̬,
+ * ̬ļӦExpressһ,ֻǲٷ
+ * ʽеıԼܱΪܽ,մҵ˳_pins
+ * ʵ·:
+ * doValuedoTypedձʱƶϵĲͼ,߲ƶϵʱ׳OVERFLOW,
+ * doGenericղʵʵݼ,ʱΪ߾ȸ
+ *
+ * @author yzhu
+ */
+public abstract class CompiledExpress extends Express {
+
+    private static final MathOperator ADD = new Add();
+    private static final MathOperator SUB = new Sub();
+    private static final MathOperator MUL = new Mul();
+    private static final MathOperator DIV = new Div();
+    private static final MathOperator MOD = new Mod();
+    private static final MathOperator NEG = new Neg();
+
+    protected Object doExpress() {
+        try {
+            switch (this._dataType) {
+                case DataType.T_INT:
+                    return (int) this.value();
+                case DataType.T_LONG:
+                    return this.value();
+                case DataType.T_BOOL:
+                    return this.value() != 0;
+                default:
+                    return this.doTyped();
+            }
+        } catch (Overflow ex) {
+            // ߲ƶϵ,ղʵʵ¼
+            return this.doGeneric();
+        }
+    }
+
+    public int evalInt() {
+        if (this._dataType == DataType.T_INT && this._data == null)
+            return (int) this.value();
+        return super.evalInt();
+    }
+
+    public long evalLong() {
+        if ((this._dataType == DataType.T_INT || this._dataType == DataType.T_LONG) && this._data == null)
+            return this.value();
+        return super.evalLong();
+    }
+
+    public boolean evalBoolean() {
+        if (this._dataType == DataType.T_BOOL && this._data == null)
+            return this.value() != 0;
+        return super.evalBoolean();
+    }
+
+    /**
+     * Ϊ,ֵ߲ʱװ,_value
+     */
+    private long value() {
+        if (!this._evaluated) {
+            this._value = this.doValue();
+            this._evaluated = true;
+        }
+        return this._value;
+    }
+
+    /**
+     * ƶϵͼΪ,ֵ߲(01)ıʽ,ʵ
+     */
+    protected long doValue() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * ƶϵͼͲȷıʽ,ʵ
+     */
+    protected Object doTyped() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * ղʵʵݼʽ
+     */
+    protected abstract Object doGeneric();
+
+    /**
+     * õindexܽŵ
+     */
+    protected final Object operand(int index) {
+        return this._pins[index].getData();
+    }
+
+    /**
+     * ƶΪĲ,ʱ׳OVERFLOW
+     */
+    protected final int operandInt(int index) {
+        return intOf(this._pins[index]);
+    }
+
+    /**
+     * ƶΪĲ,߳ʱ׳OVERFLOW
+     */
+    protected final long operandLong(int index) {
+        return longOf(this._pins[index]);
+    }
+
+    /**
+     * ƶΪֵĲ
+     */
+    protected final boolean operandBoolean(int index) {
+        return booleanOf(this._pins[index]);
+    }
+
+    public static Object add(Object a, Object b) {
+        return ADD.calculate(a, b);
+    }
+
+    public static Object sub(Object a, Object b) {
+        return SUB.calculate(a, b);
+    }
+
+    public static Object mul(Object a, Object b) {
+        return MUL.calculate(a, b);
+    }
+
+    public static Object div(Object a, Object b) {
+        return DIV.calculate(a, b);
+    }
+
+    public static Object mod(Object a, Object b) {
+        return MOD.calculate(a, b);
+    }
+
+    public static Object neg(Object a) {
+        return NEG.calculate(a, null);
+    }
+
+    /**
+     * СȽ,>,>=,<,<=,ֵComparableһ
+     * ֮䰴Ƚ,ֵdoubleȽ,ֵַȽ
+     */
+    public static int compare(Object a, Object b) {
+        int typeA = DataType.getType(a);
+        int typeB = DataType.getType(b);
+        if (DataType.isNumber(typeA)) {
+            if (!DataType.isNumber(typeB))
+                throw new RuntimeException("invalid number");
+            if (typeA != DataType.T_DECIMAL && typeB != DataType.T_DECIMAL)
+                return Long.compare(((Number) a).longValue(), ((Number) b).longValue());
+            return Double.compare(((Number) a).doubleValue(), ((Number) b).doubleValue());
+        } else if (typeA == DataType.T_STRING) {
+            if (typeB != DataType.T_STRING)
+                throw new RuntimeException("invalid string");
+            return ((String) a).compareTo((String) b);
+        } else if (typeA == DataType.T_BOOL) {
+            throw new RuntimeException("invalid operator");
+        }
+        throw new RuntimeException("invalid data");
+    }
+
+    /**
+     * ȱȽ,==!=
+     */
+    public static boolean equal(Object a, Object b) {
+        int typeA = DataType.getType(a);
+        int typeB = DataType.getType(b);
+        if (DataType.isNumber(typeA)) {
+            if (!DataType.isNumber(typeB))
+                throw new RuntimeException("invalid number");
+            if (typeA != DataType.T_DECIMAL && typeB != DataType.T_DECIMAL)
+                return ((Number) a).longValue() == ((Number) b).longValue();
+            return ((Number) a).doubleValue() == ((Number) b).doubleValue();
+        } else if (typeA == DataType.T_STRING) {
+            if (typeB != DataType.T_STRING)
+                throw new RuntimeException("invalid string");
+            return a.equals(b);
+        } else if (typeA == DataType.T_BOOL) {
+            if (typeB != DataType.T_BOOL)
+                throw new RuntimeException("invalid boolean");
+            return a.equals(b);
+        }
+        throw new RuntimeException("invalid data");
+    }
+}
@@ -33,6 +33,28 @@ public class DataType {
             return -1;
     }
 
+    /**
+     * <input/>ƻ,ʶʱ򷵻-1
+     */
+    public static int parse(String name) {
+        if (name == null)
+            return -1;
+        switch (name) {
+            case "int": case "java.lang.Integer":
+                return T_INT;
+            case "long": case "java.lang.Long":
+                return T_LONG;
+            case "decimal": case "java.math.BigDecimal":
+                return T_DECIMAL;
+            case "string": case "java.lang.String":
+                return T_STRING;
+            case "boolean": case "java.lang.Boolean":
+                return T_BOOL;
+            default:
+                return -1;
+        }
+    }
+
     /**
      * жǷֵ
      */
@@ -7,17 +7,23 @@ import com.jurassic.core.progress.handler.pin.express.list.Element;
 import com.jurassic.core.progress.handler.pin.express.list.Size;
 import com.jurassic.core.progress.handler.pin.express.list.SubList;
 import com.jurassic.core.progress.handler.pin.express.logic.And;
+import com.jurassic.core.progress.handler.pin.express.logic.LogicOperator;
 import com.jurassic.core.progress.handler.pin.express.logic.Not;
 import com.jurassic.core.progress.handler.pin.express.logic.Or;
 import com.jurassic.core.progress.handler.pin.express.math.*;
 import com.jurassic.core.progress.handler.pin.express.object.Field;
 import com.jurassic.core.progress.handler.pin.express.relation.*;
 
+import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * 表达式形式的数据管脚定义
+ * 除了getData之外,表达式还提供evalInt,evalLong,evalBoolean和evalDecimal的类型化求值,
+ * 数学,关系和逻辑运算符之间通过类型化求值传递中间结果,整数运算和比较不再装箱
+ * 整数运算溢出,或者操作数不是推断的类型的时候,类型化求值抛出OVERFLOW,
+ * 调用者捕获之后按照操作数实际的数据重新计算,溢出的结果提升为高精度浮点数
  *
  * @author yzhu
  */
@@ -48,8 +54,27 @@ public abstract class Express extends Pin {
 		expressTbl.put(Operator.ELEMENT, Element.class);
 	}
 
+	/**
+	 * 类型化求值不能按照推断的整数类型得到结果
+	 * 只用于通知调用者改为按照实际的数据计算,共享一个实例,不记录调用栈
+	 */
+	public static final class Overflow extends ArithmeticException {
+		private Overflow() {
+			super("integer overflow");
+		}
+
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+	}
+
+	public static final Overflow OVERFLOW = new Overflow();
+
 	protected Object _data;// 计算结果数据
 	protected Pin[] _pins;// 数据管脚
+	protected int _dataType = -1;// 编译流程模板时推断的结果类型,-1表示未知
+	protected boolean _evaluated = false;// 类型化求值的结果是否已经缓存在_value
+	protected long _value;// 整数和长整数类型化求值的结果
 
 	public void setPins(Pin...pins) {
 		this._pins = pins;
@@ -66,4 +91,117 @@ public abstract class Express extends Pin {
 	}
 
 	protected abstract Object doExpress();
+
+	public void setDataType(int dataType) {
+		this._dataType = dataType;
+	}
+
+	/**
+	 * 结果的数据类型,没有推断出类型的时候计算表达式
+	 */
+	public int getDataType() {
+		return this._dataType != -1 ? this._dataType : DataType.getType(this.getData());
+	}
+
+	/**
+	 * 整数结果,结果不是整数的时候抛出OVERFLOW
+	 */
+	public int evalInt() {
+		return toInt(this.getData());
+	}
+
+	/**
+	 * 长整数结果,结果不是整数或者长整数的时候抛出OVERFLOW
+	 */
+	public long evalLong() {
+		return toLong(this.getData());
+	}
+
+	public boolean evalBoolean() {
+		return (Boolean) this.getData();
+	}
+
+	public BigDecimal evalDecimal() {
+		return toDecimal(this.getData());
+	}
+
+	/**
+	 * 数值转为高精度浮点数
+	 */
+	protected static BigDecimal toDecimal(Object data) {
+		if (data instanceof BigDecimal)
+			return (BigDecimal) data;
+		else if (data instanceof Integer)
+			return new BigDecimal((Integer) data);
+		else if (data instanceof Long)
+			return new BigDecimal((Long) data);
+		throw new RuntimeException("invalid number");
+	}
+
+	private static int toInt(Object data) {
+		if (data instanceof Integer)
+			return (Integer) data;
+		throw OVERFLOW;
+	}
+
+	private static long toLong(Object data) {
+		if (data instanceof Integer || data instanceof Long)
+			return ((Number) data).longValue();
+		throw OVERFLOW;
+	}
+
+	/**
+	 * 管脚的数据类型,表达式管脚优先使用推断的类型
+	 */
+	public static int typeOf(Pin pin) {
+		if (pin instanceof Express)
+			return ((Express) pin).getDataType();
+		return DataType.getType(pin.getData());
+	}
+
+	public static int intOf(Pin pin) {
+		if (pin instanceof Express)
+			return ((Express) pin).evalInt();
+		return toInt(pin.getData());
+	}
+
+	public static long longOf(Pin pin) {
+		if (pin instanceof Express)
+			return ((Express) pin).evalLong();
+		return toLong(pin.getData());
+	}
+
+	public static boolean booleanOf(Pin pin) {
+		if (pin instanceof Express)
+			return ((Express) pin).evalBoolean();
+		return (Boolean) pin.getData();
+	}
+
+	public static BigDecimal decimalOf(Pin pin) {
+		if (pin instanceof Express)
+			return ((Express) pin).evalDecimal();
+		return toDecimal(pin.getData());
+	}
+
+	/**
+	 * 根据运算符和操作数的类型推断表达式的结果类型,不能确定的时候返回-1
+	 * 关系和逻辑运算的结果总是布尔值,size的结果总是整数,数学运算的操作数类型都确定的时候取最高精度的类型
+	 * 整数运算溢出的时候实际结果是高精度浮点数,读取的时候由类型化求值抛出OVERFLOW
+	 */
+	public static int inferType(Class<?> clz, int[] operandTypes) {
+		if (RelationOperator.class.isAssignableFrom(clz) || LogicOperator.class.isAssignableFrom(clz))
+			return DataType.T_BOOL;
+		if (Size.class.isAssignableFrom(clz))
+			return DataType.T_INT;
+		if (!MathOperator.class.isAssignableFrom(clz))
+			return -1;
+		int maxType = -1;
+		for (int type : operandTypes) {
+			if (!DataType.isNumber(type))
+				return -1;
+			if (type > maxType)
+				maxType = type;
+		}
+		return maxType;
+	}
 }
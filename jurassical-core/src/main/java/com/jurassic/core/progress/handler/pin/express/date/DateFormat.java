@@ -2,20 +2,83 @@ package com.jurassic.core.progress.handler.pin.express.date;
 
 import com.jurassic.core.progress.handler.pin.express.Express;
 
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * ڸʽ
+ * ʽʹDateTimeFormatter﷨,ʽոʽLRU
+ * 水ոʽhashΪֶ,ÿֶǰ˳еLinkedHashMap,ֻסԼķֶ,
+ * ֶе޵ʱ̭ûʹõĸʽ
+ * ʽǳʱڱ̵ʱͽΪDateTimeFormatter,ΪܽŴ
+ * ڿDate,Instant,(Long)ԼLocalDateTimejava.time,
+ * ûʱڰϵͳĬʱʽ
  *
  * @author yzhu
  */
 public class DateFormat extends Express {
 
+    private static final int MAX_FORMATTERS = 128;// ĸʽ
+    private static final int STRIPES = 8;// ķֶ,2
+
+    @SuppressWarnings("unchecked")
+    private static final Map<String, DateTimeFormatter>[] formatters = new Map[STRIPES];
+
+    static {
+        for (int i = 0; i < STRIPES; i++) {
+            formatters[i] = new LinkedHashMap<String, DateTimeFormatter>(16, 0.75f, true) {
+                protected boolean removeEldestEntry(Map.Entry<String, DateTimeFormatter> eldest) {
+                    return this.size() > MAX_FORMATTERS / STRIPES;
+                }
+            };
+        }
+    }
+
+    /**
+     * øʽӦĸʽ,ʽʱ׳쳣
+     */
+    public static DateTimeFormatter formatter(String format) {
+        int hash = format.hashCode();
+        Map<String, DateTimeFormatter> stripe = formatters[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+        synchronized (stripe) {
+            // ˳еLinkedHashMapgetʱҲ޸,ȡͬҪ
+            DateTimeFormatter formatter = stripe.get(format);
+            if (formatter == null) {
+                formatter = DateTimeFormatter.ofPattern(format);
+                stripe.put(format, formatter);
+            }
+            return formatter;
+        }
+    }
+
     protected Object doExpress() {
-        Date date = (Date) this._pins[0].getData();
-        String format = (String) this._pins[1].getData();
+        Object date = this._pins[0].getData();
+        Object format = this._pins[1].getData();
+        DateTimeFormatter formatter = format instanceof DateTimeFormatter ?
+                (DateTimeFormatter) format : formatter((String) format);
         // ڸʽ
-        return new SimpleDateFormat(format).format(date);
+        return formatter.format(temporalOf(date));
+    }
+
+    private static TemporalAccessor temporalOf(Object date) {
+        Instant instant;
+        if (date instanceof Date) {
+            // java.sql.Date֧toInstant,ͳһպת
+            instant = Instant.ofEpochMilli(((Date) date).getTime());
+        } else if (date instanceof Long) {
+            instant = Instant.ofEpochMilli((Long) date);
+        } else if (date instanceof Instant) {
+            instant = (Instant) date;
+        } else if (date instanceof TemporalAccessor) {
+            return (TemporalAccessor) date;
+        } else {
+            throw new RuntimeException("invalid date");
+        }
+        return instant.atZone(ZoneId.systemDefault());
     }
 }
@@ -1,5 +1,6 @@
 package com.jurassic.core.progress.handler.pin.express.list;
 
+import com.jurassic.core.progress.handler.pin.express.DataType;
 import com.jurassic.core.progress.handler.pin.express.Express;
 
 import java.util.List;
@@ -11,8 +12,27 @@ import java.util.List;
  */
 public class Size extends Express {
 
+    public int getDataType() {
+        return DataType.T_INT;
+    }
+
     protected Object doExpress() {
-        List data = (List)this._pins[0].getData();
-        return data.size();
+        return this.evalInt();
+    }
+
+    /**
+     * Ԫظ_value,Ϊѧ͹ϵĲʱװ
+     */
+    public int evalInt() {
+        if (!this._evaluated) {
+            List data = (List)this._pins[0].getData();
+            this._value = data.size();
+            this._evaluated = true;
+        }
+        return (int) this._value;
+    }
+
+    public long evalLong() {
+        return this.evalInt();
     }
 }
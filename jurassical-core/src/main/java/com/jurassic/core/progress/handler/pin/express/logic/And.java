@@ -7,7 +7,18 @@ package com.jurassic.core.progress.handler.pin.express.logic;
  */
 public class And extends LogicOperator {
 
-    protected Boolean calculate(Boolean... bools) {
-        return bools[0] && bools[1];
+    /**
+     * ·ֵ,Ϊfalseʱ򲻼Ҳ
+     */
+    public boolean evalBoolean() {
+        if (this._data != null)
+            return (Boolean) this._data;
+        boolean result = booleanOf(this._pins[0]) && booleanOf(this._pins[1]);
+        this._data = result;
+        return result;
+    }
+
+    protected boolean calculate(boolean a, boolean b) {
+        return a && b;
     }
 }
@@ -1,5 +1,6 @@
 package com.jurassic.core.progress.handler.pin.express.logic;
 
+import com.jurassic.core.progress.handler.pin.express.DataType;
 import com.jurassic.core.progress.handler.pin.express.Express;
 
 /**
@@ -9,13 +10,26 @@ import com.jurassic.core.progress.handler.pin.express.Express;
  */
 public abstract class LogicOperator extends Express {
 
+    public int getDataType() {
+        return DataType.T_BOOL;
+    }
+
     protected Object doExpress() {
-        Boolean[] bools = new Boolean[this._pins.length];
-        for (int i = 0; i < bools.length; i++) {
-            bools[i] = (Boolean) this._pins[i].getData();
-        }
-        return this.calculate(bools);
+        return this.evalBoolean();
+    }
+
+    public boolean evalBoolean() {
+        if (this._data != null)
+            return (Boolean) this._data;
+        boolean a = booleanOf(this._pins[0]);
+        boolean result = this.calculate(a, this._pins.length > 1 ? booleanOf(this._pins[1]) : false);
+        // Booleanװʹó,
+        this._data = result;
+        return result;
     }
 
-    protected abstract Boolean calculate(Boolean...bools);
+    /**
+     * ߼,һԪԵڶ
+     */
+    protected abstract boolean calculate(boolean a, boolean b);
 }
@@ -7,7 +7,7 @@ package com.jurassic.core.progress.handler.pin.express.logic;
  */
 public class Not extends LogicOperator {
 
-    protected Boolean calculate(Boolean... bools) {
-        return !bools[0];
+    protected boolean calculate(boolean a, boolean b) {
+        return !a;
     }
 }
@@ -9,15 +9,15 @@ import java.math.BigDecimal;
  */
 public class Add extends MathOperator {
 
-    protected Integer calculate(Integer...numbers) {
-        return numbers[0] + numbers[1];
+    protected int calculate(int a, int b) {
+        return toInt((long) a + b);
     }
 
-    protected Long calculate(Long...numbers) {
-        return numbers[0] + numbers[1];
+    protected long calculate(long a, long b) {
+        return addExact(a, b);
     }
 
-    protected BigDecimal calculate(BigDecimal...numbers) {
-        return numbers[0].add(numbers[1]);
+    protected BigDecimal calculate(BigDecimal a, BigDecimal b) {
+        return a.add(b);
     }
 }
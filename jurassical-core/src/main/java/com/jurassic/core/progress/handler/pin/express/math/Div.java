@@ -10,15 +10,15 @@ import java.math.RoundingMode;
  */
 public class Div extends MathOperator {
 
-    protected Integer calculate(Integer...numbers) {
-        return numbers[0] / numbers[1];
+    protected int calculate(int a, int b) {
+        return toInt((long) a / b);
     }
 
-    protected Long calculate(Long...numbers) {
-        return numbers[0] / numbers[1];
+    protected long calculate(long a, long b) {
+        return divideExact(a, b);
     }
 
-    protected BigDecimal calculate(BigDecimal...numbers) {
-        return numbers[0].divide(numbers[1], RoundingMode.HALF_UP);
+    protected BigDecimal calculate(BigDecimal a, BigDecimal b) {
+        return a.divide(b, RoundingMode.HALF_UP);
     }
 }
@@ -1,5 +1,6 @@
 package com.jurassic.core.progress.handler.pin.express.math;
 
+import com.jurassic.core.progress.handler.pin.Pin;
 import com.jurassic.core.progress.handler.pin.express.DataType;
 import com.jurassic.core.progress.handler.pin.express.Express;
 
@@ -8,94 +9,165 @@ import java.math.BigDecimal;
 /**
  * ѧ
  * ṩѧҪһЩ
+ * ղ߾ȵͼ,ͳֱʹû,
+ * ֻви߾ȸʱʹBigDecimal
+ * ͳʱ׳OVERFLOW,ΪBigDecimal,
  *
  * @author yzhu
  */
 public abstract class MathOperator extends Express {
 
     /**
-     * ת
+     * ֵ,߾ȵ
      */
-    @SuppressWarnings("unchecked")
-    private <T> T castNumber(Object data, Class<T> clz){
-        if (clz.equals(Integer.class)) {
-            if (data instanceof Integer) {
-                return (T)data;
-            } else if (data instanceof Long) {
-                Object tmp = ((Long) data).intValue();
-                return (T)tmp;
-            } else if (data instanceof BigDecimal) {
-                Object tmp = ((BigDecimal) data).intValue();
-                return (T) tmp;
-            }
-        } else if (clz.equals(Long.class)) {
-            if (data instanceof Integer) {
-                Object tmp = (long)((Integer) data);
-                return (T)tmp;
-            } else if (data instanceof Long) {
-                return (T) data;
-            } else if (data instanceof BigDecimal) {
-                Object tmp = ((BigDecimal) data).longValue();
-                return (T) tmp;
-            }
-        } else if (clz.equals(BigDecimal.class)) {
-            if (data instanceof Integer) {
-                Object tmp = new BigDecimal((Integer) data);
-                return (T)tmp;
-            } else if (data instanceof Long) {
-                Object tmp = new BigDecimal((Long) data);
-                return (T)tmp;
-            } else if (data instanceof BigDecimal) {
-                return (T) data;
-            }
+    public int getDataType() {
+        if (this._dataType != -1)
+            return this._dataType;
+        int maxType = -1;
+        for (Pin pin : this._pins) {
+            int type = typeOf(pin);
+            if (!DataType.isNumber(type))
+                throw new RuntimeException("invalid number");
+            if (type > maxType)
+                maxType = type;
         }
-        throw new RuntimeException("invalid number");
+        return maxType;
     }
 
     protected Object doExpress() {
-        Number[] datas = new Number[this._pins.length];
-        int[] types = new int[this._pins.length];
-        // ò߾ȵ
-        int maxType = -1;
-        for (int i = 0; i < this._pins.length; i++) {
-            datas[i] = (Number) this._pins[i].getData();
-            types[i] = DataType.getType(datas[i]);
-            if (types[i] > maxType)
-                maxType = types[i];
+        int type = this.getDataType();
+        Pin second = this.second();
+        try {
+            if (type == DataType.T_INT)
+                return this.evalInt();
+            else if (type == DataType.T_LONG)
+                return this.evalLong();
+        } catch (Overflow ex) {
+            // ߲ƶϵ,ղʵʵ¼
+            return this.calculate(this._pins[0].getData(), second != null ? second.getData() : null);
+        }
+        return this.calculate(decimalOf(this._pins[0]), second != null ? decimalOf(second) : null);
+    }
+
+    private Pin second() {
+        return this._pins.length > 1 ? this._pins[1] : null;
+    }
+
+    /**
+     * Ľ_value,ʽõʱֻһ
+     */
+    public int evalInt() {
+        if (this._data != null || this.getDataType() != DataType.T_INT)
+            return super.evalInt();
+        if (!this._evaluated) {
+            Pin second = this.second();
+            this._value = this.calculate(intOf(this._pins[0]), second != null ? intOf(second) : 0);
+            this._evaluated = true;
+        }
+        return (int) this._value;
+    }
+
+    public long evalLong() {
+        if (this._data != null)
+            return super.evalLong();
+        int type = this.getDataType();
+        if (type == DataType.T_INT) {
+            // Ľת
+            return this.evalInt();
+        } else if (type != DataType.T_LONG) {
+            return super.evalLong();
+        }
+        if (!this._evaluated) {
+            Pin second = this.second();
+            this._value = this.calculate(longOf(this._pins[0]), second != null ? longOf(second) : 0L);
+            this._evaluated = true;
+        }
+        return this._value;
+    }
+
+    /**
+     * ղʵʵͼ,ʱΪ߾ȸ,һԪbΪnull
+     */
+    public Object calculate(Object a, Object b) {
+        int type = DataType.getType(a);
+        int typeB = b != null ? DataType.getType(b) : type;
+        if (!DataType.isNumber(type) || !DataType.isNumber(typeB))
+            throw new RuntimeException("invalid number");
+        if (typeB > type)
+            type = typeB;
+        try {
+            if (type == DataType.T_INT)
+                return this.calculate(((Number) a).intValue(), b != null ? ((Number) b).intValue() : 0);
+            else if (type == DataType.T_LONG)
+                return this.calculate(((Number) a).longValue(), b != null ? ((Number) b).longValue() : 0L);
+        } catch (Overflow ex) {
+            // ,ո߾ȸ
         }
-        // еתΪͳһͣٽм
-        if (maxType == DataType.T_INT) {
-            Integer[] numbers = new Integer[this._pins.length];
-            for (int i = 0; i < numbers.length; i++)
-                numbers[i] = this.castNumber(datas[i], Integer.class);
-            return this.calculate(numbers);
-        } else if (maxType == DataType.T_LONG) {
-            Long[] numbers = new Long[this._pins.length];
-            for (int i = 0; i < numbers.length; i++)
-                numbers[i] = this.castNumber(datas[i], Long.class);
-            return this.calculate(numbers);
-        } else if (maxType == DataType.T_DECIMAL){
-            BigDecimal[] numbers = new BigDecimal[this._pins.length];
-            for (int i = 0; i < numbers.length; i++)
-                numbers[i] = this.castNumber(datas[i], BigDecimal.class);
-            return this.calculate(numbers);
+        return this.calculate(toDecimal(a), b != null ? toDecimal(b) : null);
+    }
+
+    /**
+     * תΪ,ķΧʱ׳OVERFLOW
+     * Ȱճ,ͨ
+     */
+    public static int toInt(long value) {
+        if ((int) value != value)
+            throw OVERFLOW;
+        return (int) value;
+    }
+
+    public static long addExact(long a, long b) {
+        try {
+            return Math.addExact(a, b);
+        } catch (ArithmeticException ex) {
+            throw OVERFLOW;
+        }
+    }
+
+    public static long subtractExact(long a, long b) {
+        try {
+            return Math.subtractExact(a, b);
+        } catch (ArithmeticException ex) {
+            throw OVERFLOW;
         }
-        throw new RuntimeException("inalid number");
+    }
+
+    public static long multiplyExact(long a, long b) {
+        try {
+            return Math.multiplyExact(a, b);
+        } catch (ArithmeticException ex) {
+            throw OVERFLOW;
+        }
+    }
+
+    /**
+     * ,ֻLong.MIN_VALUE / -1,Ϊ0ʱȻ׳ArithmeticException
+     */
+    public static long divideExact(long a, long b) {
+        if (a == Long.MIN_VALUE && b == -1)
+            throw OVERFLOW;
+        return a / b;
+    }
+
+    public static long negateExact(long a) {
+        if (a == Long.MIN_VALUE)
+            throw OVERFLOW;
+        return -a;
     }
 
     /**
-     * 
+     * ,һԪԵڶ,ʱ׳OVERFLOW
      */
-    protected abstract Integer calculate(Integer...numbers);
+    protected abstract int calculate(int a, int b);
 
     /**
-     * 
+     * ,ʱ׳OVERFLOW
      */
-    protected abstract Long calculate(Long...numbers);
+    protected abstract long calculate(long a, long b);
 
     /**
      * ߾ȸ
      */
-    protected abstract BigDecimal calculate(BigDecimal...numbers);
+    protected abstract BigDecimal calculate(BigDecimal a, BigDecimal b);
 
 }
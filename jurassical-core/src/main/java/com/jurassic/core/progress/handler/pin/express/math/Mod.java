@@ -9,15 +9,24 @@ import java.math.BigDecimal;
  */
 public class Mod extends MathOperator {
 
-    protected Integer calculate(Integer...numbers) {
-        return numbers[0] % numbers[1];
+    protected int calculate(int a, int b) {
+        return a % b;
     }
 
-    protected Long calculate(Long...numbers) {
-        return numbers[0] % numbers[1];
+    protected long calculate(long a, long b) {
+        return a % b;
     }
 
-    protected BigDecimal calculate(BigDecimal...numbers) {
-        throw new RuntimeException("invalid number");
+    /**
+     * ֵֻ֧,ĸ߾ȸȻģ
+     */
+    protected BigDecimal calculate(BigDecimal a, BigDecimal b) {
+        if (!isIntegral(a) || !isIntegral(b))
+            throw new RuntimeException("invalid number");
+        return a.remainder(b);
+    }
+
+    private static boolean isIntegral(BigDecimal data) {
+        return data.signum() == 0 || data.scale() <= 0 || data.stripTrailingZeros().scale() <= 0;
     }
 }
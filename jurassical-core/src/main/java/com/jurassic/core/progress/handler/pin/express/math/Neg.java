@@ -9,15 +9,15 @@ import java.math.BigDecimal;
  */
 public class Neg extends MathOperator {
 
-    protected Integer calculate(Integer...numbers) {
-        return -numbers[0];
+    protected int calculate(int a, int b) {
+        return toInt(-(long) a);
     }
 
-    protected Long calculate(Long...numbers) {
-        return -numbers[0];
+    protected long calculate(long a, long b) {
+        return negateExact(a);
     }
 
-    protected BigDecimal calculate(BigDecimal...numbers) {
-        return numbers[0].negate();
+    protected BigDecimal calculate(BigDecimal a, BigDecimal b) {
+        return a.negate();
     }
 }
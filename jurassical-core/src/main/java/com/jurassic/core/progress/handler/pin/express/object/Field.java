@@ -4,6 +4,7 @@ import com.jurassic.core.progress.handler.pin.express.Express;
 
 /**
  * ȡ
+ * ֶָ֧κgetter,Եķ(, )
  *
  * @author yzhu
  */
@@ -12,17 +13,8 @@ public class Field extends Express {
     protected Object doExpress() {
         Object object = this._pins[0].getData();
         String nameOfField = (String) this._pins[1].getData();
-        try {
-            // ䷽ö
-            java.lang.reflect.Field field =
-                    object.getClass().getDeclaredField(nameOfField);
-            boolean access = field.isAccessible();
-            field.setAccessible(true);
-            Object data = field.get(object);
-            field.setAccessible(access);
-            return data;
-        } catch (Throwable ex) {
+        if (object == null || nameOfField == null)
             throw new RuntimeException("invalid field");
-        }
+        return FieldAccessor.of(object.getClass(), nameOfField).get(object);
     }
 }
@@ -0,0 +1,106 @@
+package com.jurassic.core.progress.handler.pin.express.object;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Եķ
+ * (, ),һηʱ,ֱ֮ͨMethodHandleȡ
+ * ԵĲ˳:༰丸ֶ,getXxx/isXxx,ͬ޲η
+ * ClassValue,жصʱһ
+ *
+ * @author yzhu
+ */
+public final class FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<ConcurrentMap<String, FieldAccessor>> CACHE =
+            new ClassValue<ConcurrentMap<String, FieldAccessor>>() {
+                protected ConcurrentMap<String, FieldAccessor> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private final MethodHandle _getter;// ȡԵķ,Ϊ(Object)Object
+
+    private FieldAccessor(MethodHandle getter) {
+        this._getter = getter.asType(GETTER_TYPE);
+    }
+
+    /**
+     * Է,ҲԵʱ׳쳣
+     */
+    public static FieldAccessor of(Class<?> clz, String name) {
+        ConcurrentMap<String, FieldAccessor> accessors = CACHE.get(clz);
+        FieldAccessor accessor = accessors.get(name);
+        if (accessor == null) {
+            accessor = resolve(clz, name);
+            FieldAccessor prev = accessors.putIfAbsent(name, accessor);
+            if (prev != null)
+                accessor = prev;
+        }
+        return accessor;
+    }
+
+    private static FieldAccessor resolve(Class<?> clz, String name) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            // ༰丸ֶ
+            for (Class<?> c = clz; c != null; c = c.getSuperclass()) {
+                for (java.lang.reflect.Field field : c.getDeclaredFields()) {
+                    if (field.getName().equals(name) && !Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        return new FieldAccessor(lookup.unreflectGetter(field));
+                    }
+                }
+            }
+            // getterԼͬ޲η
+            String suffix = name.isEmpty() ? name
+                    : Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            for (String methodName : new String[]{"get" + suffix, "is" + suffix, name}) {
+                Method method = findMethod(clz, methodName);
+                if (method != null) {
+                    method.setAccessible(true);
+                    return new FieldAccessor(lookup.unreflect(method));
+                }
+            }
+        } catch (IllegalAccessException | RuntimeException ex) {
+            throw new RuntimeException("invalid field " + name, ex);
+        }
+        throw new RuntimeException("invalid field " + name);
+    }
+
+    /**
+     * зֵ޲ʵ,ķ
+     */
+    private static Method findMethod(Class<?> clz, String name) {
+        for (Class<?> c = clz; c != null; c = c.getSuperclass()) {
+            for (Method method : c.getDeclaredMethods()) {
+                if (method.getName().equals(name) && method.getParameterCount() == 0
+                        && method.getReturnType() != void.class
+                        && !Modifier.isStatic(method.getModifiers()))
+                    return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * ȡ
+     */
+    public Object get(Object target) {
+        try {
+            return (Object) this._getter.invokeExact(target);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+}
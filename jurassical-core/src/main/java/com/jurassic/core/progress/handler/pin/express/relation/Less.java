@@ -7,15 +7,19 @@ package com.jurassic.core.progress.handler.pin.express.relation;
  */
 public class Less extends RelationOperator {
 
-    protected boolean compare(String... strings) {
-        return strings[0].compareTo(strings[1]) < 0;
+    protected boolean compare(String a, String b) {
+        return a.compareTo(b) < 0;
     }
 
-    protected boolean compare(Number... numbers) {
-        return numbers[0].doubleValue() < numbers[1].doubleValue();
+    protected boolean compare(long a, long b) {
+        return a < b;
     }
 
-    protected boolean compare(Boolean... booleans) {
+    protected boolean compare(double a, double b) {
+        return a < b;
+    }
+
+    protected boolean compare(boolean a, boolean b) {
         throw new RuntimeException("invalid operator");
     }
 }
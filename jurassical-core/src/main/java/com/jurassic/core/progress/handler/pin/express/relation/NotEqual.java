@@ -7,16 +7,19 @@ package com.jurassic.core.progress.handler.pin.express.relation;
  */
 public class NotEqual extends RelationOperator {
 
-    protected boolean compare(String... strings) {
-        return !strings[0].equals(strings[1]);
+    protected boolean compare(String a, String b) {
+        return !a.equals(b);
     }
 
+    protected boolean compare(long a, long b) {
+        return a != b;
+    }
 
-    protected boolean compare(Number... numbers) {
-        return numbers[0].doubleValue() != numbers[1].doubleValue();
+    protected boolean compare(double a, double b) {
+        return a != b;
     }
 
-    protected boolean compare(Boolean... booleans) {
-        return booleans[0] != booleans[1];
+    protected boolean compare(boolean a, boolean b) {
+        return a != b;
     }
 }
@@ -1,5 +1,6 @@
 package com.jurassic.core.progress.handler.pin.express.relation;
 
+import com.jurassic.core.progress.handler.pin.Pin;
 import com.jurassic.core.progress.handler.pin.express.DataType;
 import com.jurassic.core.progress.handler.pin.express.Express;
 import org.slf4j.Logger;
@@ -7,6 +8,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * ϵ
+ * ͳ֮䰴ճȽ,и߾ȸʱdoubleȽ
+ * ʱʵʵ±Ƚ
  *
  * @author yzhu
  */
@@ -14,47 +17,55 @@ public abstract class RelationOperator extends Express {
 
     private static final Logger logger = LoggerFactory.getLogger(RelationOperator.class);
 
+    public int getDataType() {
+        return DataType.T_BOOL;
+    }
+
     protected Object doExpress() {
-        Object[] datas = new Object[this._pins.length];
-        int[] types = new int[this._pins.length];
-        for (int i = 0; i < datas.length; i++) {
-            datas[i] = this._pins[i].getData();
-            types[i] = DataType.getType(datas[i]);
+        return this.evalBoolean();
+    }
+
+    /**
+     * ȽϽ_data,Booleanװʹó,
+     */
+    public boolean evalBoolean() {
+        if (this._data != null)
+            return (Boolean) this._data;
+        Pin a = this._pins[0];
+        Pin b = this._pins[1];
+        boolean result;
+        try {
+            result = this.evaluate(a, b, typeOf(a), typeOf(b));
+        } catch (Overflow ex) {
+            // ߲ƶϵ
+            result = this.evaluate(a, b, DataType.getType(a.getData()), DataType.getType(b.getData()));
         }
+        this._data = result;
+        return result;
+    }
+
+    private boolean evaluate(Pin a, Pin b, int typeA, int typeB) {
         // Ƿһ͵ģַ߶ֵ
-        if (DataType.isNumber(types[0])) {
-            for (int i = 1; i < types.length; i++) {
-                if (!DataType.isNumber(types[i])) {
-                    throw new RuntimeException("invalid number");
-                }
+        if (DataType.isNumber(typeA)) {
+            if (!DataType.isNumber(typeB)) {
+                throw new RuntimeException("invalid number");
             }
-            Number[] numbers = new Number[datas.length];
-            for (int i = 0; i < numbers.length; i++) {
-                numbers[i] = (Number) datas[i];
+            if (typeA != DataType.T_DECIMAL && typeB != DataType.T_DECIMAL) {
+                return this.compare(longOf(a), longOf(b));
             }
-            return this.compare(numbers);
-        } else if (types[0] == DataType.T_STRING) {
-            for (int i = 1; i < types.length; i++) {
-                if (types[i] != DataType.T_STRING) {
-                    throw new RuntimeException("invalid string");
-                }
+            return this.compare(decimalOf(a).doubleValue(), decimalOf(b).doubleValue());
+        } else if (typeA == DataType.T_STRING) {
+            if (typeB != DataType.T_STRING) {
+                throw new RuntimeException("invalid string");
             }
-            String[] strings = new String[datas.length];
-            for (int i = 0; i < strings.length; i++)
-                strings[i] = (String) datas[i];
-            return this.compare(strings);
-        } else if (types[0] == DataType.T_BOOL) {
-            for (int i = 1; i < types.length; i++) {
-                if (types[i] != DataType.T_BOOL) {
-                    throw new RuntimeException("invalid boolean");
-                }
+            return this.compare((String) a.getData(), (String) b.getData());
+        } else if (typeA == DataType.T_BOOL) {
+            if (typeB != DataType.T_BOOL) {
+                throw new RuntimeException("invalid boolean");
             }
-            Boolean[] booleans = new Boolean[datas.length];
-            for (int i = 0; i < booleans.length; i++)
-                booleans[i] = (Boolean) datas[i];
-            return this.compare(booleans);
+            return this.compare(booleanOf(a), booleanOf(b));
         } else {
-            logger.warn(datas[0].toString());
+            logger.warn(String.valueOf(a.getData()));
             throw new RuntimeException("invalid data");
         }
     }
@@ -62,15 +73,20 @@ public abstract class RelationOperator extends Express {
     /**
      * ַȽ
      */
-    protected abstract boolean compare(String...strings);
+    protected abstract boolean compare(String a, String b);
+
+    /**
+     * Ƚ
+     */
+    protected abstract boolean compare(long a, long b);
 
     /**
-     * ֵȽ
+     * Ƚ
      */
-    protected abstract boolean compare(Number...numbers);
+    protected abstract boolean compare(double a, double b);
 
     /**
      * ֵȽϣֻ==!=ֲЧ
      */
-    protected abstract boolean compare(Boolean...booleans);
+    protected abstract boolean compare(boolean a, boolean b);
 }
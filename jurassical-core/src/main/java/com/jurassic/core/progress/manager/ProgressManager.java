@@ -1,5 +1,7 @@
 package com.jurassic.core.progress.manager;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.jurassic.core.event.Event;
 import com.jurassic.core.progress.Progress;
 import com.jurassic.core.progress.handler.pin.Pin;
@@ -22,6 +24,16 @@ public interface ProgressManager {
 							Pin[] params,
 							Progress parent);
 
+	/**
+	 * һӦ,̽future
+	 * timeoutMillis0ʱΪĽֹʱ,ʱTimeoutException
+	 * ̴ʧܵʱ򷵻쳣ɵfuture
+	 */
+	CompletableFuture<Object> startProgress(String packageKey,
+											String progressKey,
+											Pin[] params,
+											long timeoutMillis);
+
 	Event createEvent(String packageKey, String eventKey, Object[] params);
 
 }
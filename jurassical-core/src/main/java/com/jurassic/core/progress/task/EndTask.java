@@ -42,4 +42,12 @@ public class EndTask extends Task {
 	public String getEventKey() {
 		return this._progress.getProgressKey() + END_SUFFIX;
 	}
+
+	/**
+	 * ͳ֮ͷ,̳еEPUͳƶ֮
+	 */
+	public void release() {
+		super.release();
+		this._progress.release();
+	}
 }
@@ -3,8 +3,6 @@ package com.jurassic.core.progress.task;
 import com.jurassic.core.progress.handler.pin.Pin;
 import com.jurassic.core.progress.Progress;
 
-import java.util.List;
-
 /**
  * ת֧Ľ
  * еķ֧ӵ
@@ -32,20 +30,14 @@ public class JumpEndTask extends Task {
 	}
 
 	/**
-	 * ڷ֧·ĳisReadyж,Ҫҵʵߵ֧״̬
+	 * ֧·ĳֻҪӦתѾִоͿִ
+	 * ûбѡķ֧ʱͬᵽ,˲Ҫÿ֧״̬
+	 * Ƕڱķ֧еĳ,תûִ,Ҳ֮
 	 */
-	public boolean isReady() {
-		if (this._status != 0)
-			return false;
-
-		for (Task prev : this._prevTasks) {
-			if (this._startOfJmpTask.isBranchTask(prev)) {
-				if (prev.getStatus() != S_END)
-					return false;
-			}
-		}
-
-		return true;
+	public boolean isLive() {
+		if (this._startOfJmpTask == null)
+			return super.isLive();
+		return this._startOfJmpTask.getStatus() == S_END;
 	}
 
 	/**
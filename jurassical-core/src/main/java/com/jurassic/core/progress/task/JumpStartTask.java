@@ -1,7 +1,5 @@
 package com.jurassic.core.progress.task;
 
-import java.util.*;
-
 import com.jurassic.core.progress.handler.pin.Pin;
 import com.jurassic.core.progress.Progress;
 import com.jurassic.core.progress.handler.pin.express.Express;
@@ -17,9 +15,6 @@ public class JumpStartTask extends Task {
 
 	public static final String KEY = "jmp_start";
 
-	// ̬ʵһ
-	private List<Task> _dynamicNextTasks = new ArrayList<>();
-
 	public JumpStartTask(Progress progress, String desc) {
 		super(progress, desc);
 	}
@@ -31,14 +26,9 @@ public class JumpStartTask extends Task {
 	/**
 	 * ݶ̬кѡִе
 	 */
-	public List<Task> getNextTasks() {
-		for (Task to : this._nextTasks) {
-			Express condition = this._conditions.get(to);
-			if ((Boolean) condition.getData() == true) {
-				this._dynamicNextTasks.add(to);
-			}
-		}
-		return this._dynamicNextTasks;
+	public boolean takeNext(int i) {
+		Express condition = this.conditionAt(i);
+		return condition != null && (Boolean) condition.getData();
 	}
 
 	public void input(Pin... pins) {
@@ -60,14 +50,4 @@ public class JumpStartTask extends Task {
 	public void end(Throwable ex) {
 		this._status = S_END;
 	}
-
-	/**
-	 * жtaskǷǷ֧·
-	 */
-	public boolean isBranchTask(Task task) {
-		for (Task branchTask : this._dynamicNextTasks)
-			if (branchTask.hasChild(task))
-				return true;
-		return false;
-	}
 }
@@ -69,7 +69,7 @@ public class SubProgressInvokeTask extends Task implements ResultNotification {
                 EventBus.GLOBAL_KEY, EventBus.class
         );
         try {
-            eventBus.fire(this.getPackageKey(), KEY, this);
+            eventBus.fire(this);
         } catch (Throwable ignored) {}
     }
 }
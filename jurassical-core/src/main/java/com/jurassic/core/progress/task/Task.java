@@ -4,10 +4,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 import com.jurassic.core.event.Event;
 import com.jurassic.core.progress.handler.pin.Pin;
 import com.jurassic.core.progress.Progress;
+import com.jurassic.core.progress.factory.ProgressGraph;
 import com.jurassic.core.progress.handler.pin.express.Express;
 
 /**
@@ -19,9 +21,11 @@ import com.jurassic.core.progress.handler.pin.express.Express;
  */
 public abstract class Task extends Event {
 	protected String _desc;// taskеʾ
+	protected int _id = -1;// taskеı,մ˳
 	// ֮ͨǰͺ໥ϵ
-	protected List<Task> _prevTasks = new ArrayList<>();// ǰ
-	protected List<Task> _nextTasks = new ArrayList<>();// 
+	// ɱͼʹͼеڽӱ,ֹֻbindŻЩб
+	protected List<Task> _prevTasks;// ǰ
+	protected List<Task> _nextTasks;// 
 	protected Progress _progress;// 
 	// ִеĽֹʱ,-1ʾûнֹʱ
 	// ÿһֹʱ,ڹ涨ʱ޷̵
@@ -29,11 +33,22 @@ public abstract class Task extends Event {
 	protected long _cutoffTime = -1;
 	// 轻handlerһЩжϵȻ
 
+	// ľ,ÿǰɻ߱תʱһ
+	// ǰʱ,ǰ·Ѿ
+	private static final AtomicIntegerFieldUpdater<Task> ARRIVED =
+			AtomicIntegerFieldUpdater.newUpdater(Task.class, "_arrived");
+	private volatile int _arrived = 0;// Ѿǰ·
+	private volatile boolean _live = false;// Ƿʵִеǰ·
+	// ͬʱɺж·,ͨCAS֤ÿֻһ
+	private static final AtomicIntegerFieldUpdater<Task> CLAIMED =
+			AtomicIntegerFieldUpdater.newUpdater(Task.class, "_claimed");
+	private volatile int _claimed = 0;// ǷѾ
+
 	public Task(Progress progress, String desc) {
 		this._progress = progress;
 		this._desc = desc;
 		if (progress != null)
-			progress.addTask(this);// ÿδtaskʱ,󶨵Ӧ
+			this._id = progress.addTask(this);// ÿδtaskʱ,󶨵Ӧ
 	}
 
 	/**
@@ -45,6 +60,10 @@ public abstract class Task extends Event {
 		return this._desc;
 	}
 
+	public int getId() {
+		return this._id;
+	}
+
 	public void setCutOffTime(long time) {
 		this._cutoffTime = time;
 	}
@@ -53,24 +72,106 @@ public abstract class Task extends Event {
 		return this._cutoffTime;
 	}
 
+	/**
+	 * ̵ıͼ,ֹbind̷null
+	 */
+	private ProgressGraph graph() {
+		return this._progress != null ? this._progress.getGraph() : null;
+	}
+
+	/**
+	 * 
+	 */
+	public int nextSize() {
+		ProgressGraph graph = this.graph();
+		if (graph != null)
+			return graph.getNexts(this._id).length;
+		return this._nextTasks != null ? this._nextTasks.size() : 0;
+	}
+
+	/**
+	 * i
+	 */
+	public Task nextAt(int i) {
+		ProgressGraph graph = this.graph();
+		if (graph != null)
+			return this._progress.getTask(graph.getNexts(this._id)[i]);
+		return this._nextTasks.get(i);
+	}
+
+	/**
+	 * תi,ûnull
+	 */
+	public Express conditionAt(int i) {
+		ProgressGraph graph = this.graph();
+		if (graph != null) {
+			int slot = graph.getConditions(this._id)[i];
+			return slot != -1 ? (Express) this._progress.getPin(slot) : null;
+		}
+		return this._conditions != null ?
+				this._conditions.get(this._nextTasks.get(i)) : null;
+	}
+
+	/**
+	 * ǰ
+	 */
+	public int prevSize() {
+		ProgressGraph graph = this.graph();
+		if (graph != null)
+			return graph.getPrevs(this._id).length;
+		return this._prevTasks != null ? this._prevTasks.size() : 0;
+	}
+
+	/**
+	 * iǰ
+	 */
+	public Task prevAt(int i) {
+		ProgressGraph graph = this.graph();
+		if (graph != null)
+			return this._progress.getTask(graph.getPrevs(this._id)[i]);
+		return this._prevTasks.get(i);
+	}
+
+	/**
+	 * жɺǷi
+	 * ͨеĺ,תѡ
+	 */
+	public boolean takeNext(int i) {
+		return true;
+	}
+
+	/**
+	 * ɺĺ
+	 */
 	public List<Task> getNextTasks() {
-		return this._nextTasks;
+		List<Task> tasks = new ArrayList<>();
+		for (int i = 0; i < this.nextSize(); i++) {
+			if (this.takeNext(i))
+				tasks.add(this.nextAt(i));
+		}
+		return tasks;
 	}
 
 	/**
 	 * nextӵǰִ
+	 * ֹֻ,ͼӹϵǹ̶
 	 */
 	public Task bind(Task nextTask) {
+		if (this._nextTasks == null)
+			this._nextTasks = new ArrayList<>();
+		if (nextTask._prevTasks == null)
+			nextTask._prevTasks = new ArrayList<>();
 		this._nextTasks.add(nextTask);
 		nextTask._prevTasks.add(this);
 
 		return nextTask;
 	}
 
-	protected Map<Task, Express> _conditions = new HashMap<>();// ת·ϵʽ
+	protected Map<Task, Express> _conditions;// ת·ϵʽ
 	public Task bindWithCondition(Task nextTask, Express condition) {
-		this._nextTasks.add(nextTask);
-		nextTask._prevTasks.add(this);
+		this.bind(nextTask);
+		if (this._conditions == null)
+			this._conditions = new HashMap<>();
 		this._conditions.put(nextTask, condition);
 
 		return nextTask;
@@ -80,23 +181,49 @@ public abstract class Task extends Event {
 		return this._progress;
 	}
 
+	/**
+	 * ǰ·ﵱǰ,liveΪfalseʾ·ת
+	 * Ƿеǰ·ѵ,ÿֻһηtrue
+	 */
+	public boolean arrive(boolean live) {
+		if (live)
+			this._live = true;
+		return ARRIVED.incrementAndGet(this) == this.prevSize();
+	}
+
+	/**
+	 * ,Ƿɱε÷
+	 * ѾѾ̷߳ɵ񷵻false
+	 */
+	public boolean claim() {
+		return this._status == 0 && CLAIMED.compareAndSet(this, 0, 1);
+	}
+
+	/**
+	 * жϵǰ·Ƿʵִе,ȫҲִ
+	 */
+	public boolean isLive() {
+		return this._live;
+	}
+
 	/**
 	 * жϵǰǷִ
-	 * ִеı׼ǣǰǰԽ
+	 * ִеı׼ǣǰǰ·ѵ,һʵִ
 	 */
 	public boolean isReady() {
-		// ǰ״̬Ϊʼ
-		if (this._status != 0)
-			return false;
-
-		// ǰ״̬
-		for (Task prev : this._prevTasks) {
-			if (!prev.isAuto() && prev._status != S_END) {
-				return false;
-			}
-		}
+		return this._status == 0 && this._arrived == this.prevSize() && this.isLive();
+	}
 
-		return true;
+	/**
+	 * ̱õʱ״̬;
+	 * ܽģע,ܽһִеʱ򸲸
+	 */
+	public void reuse() {
+		this.reset();
+		this._cutoffTime = -1;
+		this._arrived = 0;
+		this._live = false;
+		this._claimed = 0;
 	}
 
 	/**
@@ -105,8 +232,8 @@ public abstract class Task extends Event {
 	public boolean hasChild(Task task) {
 		if (this == task)
 			return true;
-		for (Task child : this._nextTasks) {
-			if (child.hasChild(task))
+		for (int i = 0; i < this.nextSize(); i++) {
+			if (this.nextAt(i).hasChild(task))
 				return true;
 		}
 		return false;
@@ -0,0 +1,49 @@
+package com.jurassic.core.progress.task;
+
+import com.jurassic.core.progress.Progress;
+import com.jurassic.core.progress.handler.pin.Pin;
+
+/**
+ * ̳ʱ
+ * ̵Ľֹʱ䵽ڵʱʱַ͸ڵEPUƬ,EPUж
+ * ʱͼ,ռ
+ *
+ * @author yzhu
+ */
+public class TimeoutTask extends Task {
+	public static final String KEY = "timeout";
+
+	private final int _generation;// ýֹʱʱ̵ĸô
+
+	public TimeoutTask(Progress progress, int generation) {
+		super(null, "");
+		this._progress = progress;
+		this._generation = generation;
+	}
+
+	/**
+	 * жϳʱǷȻӦ̵ıִ,̱֮ʱʧЧ
+	 */
+	public boolean isValid() {
+		return this._generation == this._progress.getGeneration();
+	}
+
+	public boolean isAuto() {
+		return true;
+	}
+
+	public void input(Pin... pins) {
+	}
+
+	public Pin output(int pinIdx) {
+		return null;
+	}
+
+	public String getPackageKey() {
+		return this._progress.getPackageKey();
+	}
+
+	public String getEventKey() {
+		return KEY;
+	}
+}
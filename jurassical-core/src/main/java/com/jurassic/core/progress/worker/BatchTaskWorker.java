@@ -1,6 +1,7 @@
 package com.jurassic.core.progress.worker;
 
 import com.jurassic.core.bus.EventBus;
+import com.jurassic.core.bus.Route;
 import com.jurassic.core.bus.impl.EBus;
 import com.jurassic.core.event.Event;
 import com.jurassic.core.event.EventWrapper;
@@ -24,6 +25,8 @@ public class BatchTaskWorker<T extends Task> implements EventHandler<EventWrappe
 
     private BatchTaskHandler<T> _handler;// ҵ
     private final EventBus _eventBus;// 
+    private final Route _staticsRoute;// statics·
+    private Continuation _continuation;// ,ûӵʱΪnull
 
     private final List<EventWrapper<T>> _wrapperBuf = new ArrayList<>();
     private final List<T> _taskBuf = new ArrayList<>();// ¼Ļ
@@ -33,6 +36,8 @@ public class BatchTaskWorker<T extends Task> implements EventHandler<EventWrappe
     public BatchTaskWorker() {
         this._eventBus = GlobalInstRegisterTable.getInst(
                 EventBus.GLOBAL_KEY, EventBus.class);
+        this._staticsRoute = this._eventBus.route(
+                null, EBus.COMPONENT_KEY_STATICS);
     }
 
     private void doBatchEvents() {
@@ -93,19 +98,25 @@ public class BatchTaskWorker<T extends Task> implements EventHandler<EventWrappe
      * ִһ
      */
     private void doNext(Task task) {
+        if (this._continuation != null && task.getProgress() != null) {
+            // ģʽɵǰֱ߳Ӽ㲢̵ִһ
+            this._continuation.proceed(task);
+            return;
+        }
         try {
-            // ǰtaskepu̵һ
-            if (task.getProgress() != null)
-                this._eventBus.fire(
-                        task.getProgress().getPackageKey(),
-                        "epu", task);
+            // ǰstaticִϢͳ
+            // EPU,staticsFIFO,̵֤Ľͷ֮ǰѾͳ
+            this._eventBus.fire(this._staticsRoute, task);
         } catch(Throwable ex) {
+            // staticsûнܵͷ,ͷŻᵼ޷
+            task.release();
             logger.warn(ex.getMessage(), ex);
         }
         try {
-            // ǰstaticִϢͳ
-            this._eventBus.fire(
-                    null, EBus.COMPONENT_KEY_STATICS, task);
+            // ǰtaskepu̵һ
+            if (task.getProgress() != null)
+                this._eventBus.fire(
+                        task.getProgress().getEpuRoute(), task);
         } catch(Throwable ex) {
             logger.warn(ex.getMessage(), ex);
         }
@@ -114,5 +125,8 @@ public class BatchTaskWorker<T extends Task> implements EventHandler<EventWrappe
     @SuppressWarnings("unchecked")
     public void setHandler(AbstractHandler handler) {
         this._handler = (BatchTaskHandler<T>) handler;
+        if (handler.getContinuationDepth() > 0)
+            this._continuation = new Continuation(
+                    handler, this._eventBus, this._staticsRoute);
     }
 }
@@ -0,0 +1,172 @@
+package com.jurassic.core.progress.worker;
+
+import com.jurassic.core.bus.EventBus;
+import com.jurassic.core.bus.Route;
+import com.jurassic.core.event.Event;
+import com.jurassic.core.handler.AbstractHandler;
+import com.jurassic.core.progress.handler.BatchTaskHandler;
+import com.jurassic.core.progress.handler.EPU;
+import com.jurassic.core.progress.handler.TaskHandler;
+import com.jurassic.core.progress.task.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 
+ * ɺɹֱ߳Ӽ̵һ,پEPUת
+ * ԶͿĺֱڵǰִ߳,ֱӷԵĴ
+ * ͬһ̿ڶ߳ͬʱɵһ,ľͷɵCAS֤ÿִֻһ
+ * ֹ߳ʱж,ȻEPUƬ,볬ʱͬһ߳ϴ
+ * ÿ̶߳ռһʵ
+ *
+ * @author yzhu
+ */
+public class Continuation {
+
+    private final EPU _epu = new EPU();// ֻʹEPUļ߼,EPUĴ
+    private final EventBus _eventBus;// 
+    private final Route _staticsRoute;// statics·
+    private final Map<String, AbstractHandler> _inlineHandlers;// ִеĴ
+    private final int _maxDepth;// ִе
+    private final long _budget;// ִеʱԤ(ns)
+
+    private final List<Task> _fireBuf = new ArrayList<>();// Ҫ
+    private Task _inline;// ѡڵǰִ߳еĺ
+
+    protected static Logger logger = LoggerFactory.getLogger(Continuation.class);
+
+    public Continuation(AbstractHandler handler, EventBus eventBus, Route staticsRoute) {
+        this._eventBus = eventBus;
+        this._staticsRoute = staticsRoute;
+        this._inlineHandlers = handler.getInlineHandlers();
+        this._maxDepth = handler.getContinuationDepth();
+        this._budget = handler.getContinuationBudget() * 1000L;
+    }
+
+    /**
+     * ɵʼ
+     * ÿѡһִ,ִɺһ
+     */
+    public void proceed(Task task) {
+        long deadline = System.nanoTime() + this._budget;
+        int depth = 0;
+        while (task != null) {
+            boolean inlinable = depth < this._maxDepth
+                    && System.nanoTime() - deadline < 0;
+            Task inline = this.next(task, inlinable);
+            task = null;
+            if (inline != null) {
+                depth++;
+                if (this.execute(inline))
+                    task = inline;
+            }
+        }
+    }
+
+    /**
+     * һ,ѡִеĺ
+     */
+    private Task next(Task task, boolean inlinable) {
+        try {
+            // ǰstaticִϢͳ
+            // ڼһ,ִܺܿе̽
+            this._eventBus.fire(this._staticsRoute, task);
+        } catch (Throwable ex) {
+            task.release();
+            logger.warn(ex.getMessage(), ex);
+        }
+        try {
+            if (interrupts(task)) {
+                // ж̵EPUƬ
+                this._eventBus.fire(task.getProgress().getEpuRoute(), task);
+            } else {
+                this.dispatch(this._epu.calculate(task), inlinable);
+            }
+            if (!this._fireBuf.isEmpty()) {
+                // һв
+                this._eventBus.fireAll(this._fireBuf);
+            }
+        } catch (Throwable ex) {
+            logger.warn(ex.getMessage(), ex);
+        } finally {
+            this._fireBuf.clear();
+        }
+        Task inline = this._inline;
+        this._inline = null;
+        return inline;
+    }
+
+    /**
+     * жɵʱǷж
+     */
+    private static boolean interrupts(Task task) {
+        return task.getError() != null || (task.getCutoffTime() != -1
+                && System.currentTimeMillis() > task.getCutoffTime());
+    }
+
+    /**
+     * ɺ,Զֱӽ,EPUWorkerĴһ
+     */
+    private void dispatch(List<Task> nextTasks, boolean inlinable) throws Exception {
+        if (nextTasks == null)
+            return;
+        for (Task next : nextTasks) {
+            if (!next.claim()) {
+                // Ѿ̷߳ɵ
+                continue;
+            }
+            if (next.isAuto()) {
+                next.end(null);
+                if (interrupts(next))
+                    this._eventBus.fire(next.getProgress().getEpuRoute(), next);
+                else
+                    this.dispatch(this._epu.calculate(next), inlinable);
+            } else {
+                if (inlinable && this._inline == null
+                        && this._inlineHandlers.containsKey(next.getEventKey())) {
+                    this._inline = next;
+                } else {
+                    this._fireBuf.add(next);
+                }
+            }
+        }
+    }
+
+    /**
+     * ڵǰִ߳,ǷѾ
+     * ͣȴָ,
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private boolean execute(Task task) {
+        AbstractHandler handler = this._inlineHandlers.get(task.getEventKey());
+        // ִеûо߷,ﲹϷ״̬
+        task.publish();
+        task.run();
+        Throwable err = null;
+        try {
+            if (handler instanceof TaskHandler) {
+                ((TaskHandler) handler).handle(task);
+            } else {
+                ((BatchTaskHandler) handler).handle(Collections.singletonList(task));
+            }
+        } catch (Throwable ex) {
+            err = ex.getCause() != null ? ex.getCause() : ex;
+            logger.error("event " + handler.getHandlerKey() + " happen error:"
+                    + err.getMessage(), err);
+        }
+        if (err != null) {
+            task.end(err);
+            return true;
+        }
+        if (task.getStatus() != Event.S_HALT) {
+            task.end(null);
+            return true;
+        }
+        return false;
+    }
+}
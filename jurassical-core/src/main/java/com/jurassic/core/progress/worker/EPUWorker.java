@@ -23,6 +23,7 @@ public class EPUWorker implements EventHandler<EventWrapper<Task>> {
 
     private EPU _epu;// 봦
     private final EventBus _eventBus;// 
+    private final List<Task> _fireBuf = new ArrayList<>();// Ҫ
 
     protected static Logger logger = LoggerFactory.getLogger(EPUWorker.class);
 
@@ -57,17 +58,26 @@ public class EPUWorker implements EventHandler<EventWrapper<Task>> {
         if (nextTasks != null && !nextTasks.isEmpty()) {
             // ̵ָ
             for (Task _task : nextTasks) {
+                if (!_task.claim()) {
+                    // Ѿ̷߳ɵ
+                    continue;
+                }
                 if (_task.isAuto()) {
                     // Զ,Ҫٴμ
                     autoTasks.add(_task);
-                } else if (_task.getStatus() == 0) {
+                } else {
                     // Զִе,ŵ
-                    try {
-                        this._eventBus.fire(_task.getPackageKey(),
-                                _task.getEventKey(), _task);
-                    } catch (Throwable e) {
-                        logger.error(e.getMessage(), e);
-                    }
+                    this._fireBuf.add(_task);
+                }
+            }
+            if (!this._fireBuf.isEmpty()) {
+                // һе
+                try {
+                    this._eventBus.fireAll(this._fireBuf);
+                } catch (Throwable e) {
+                    logger.error(e.getMessage(), e);
+                } finally {
+                    this._fireBuf.clear();
                 }
             }
 
@@ -10,6 +10,7 @@ import com.jurassic.core.util.CopyOnWriteMap;
  * ̰߳Դӳ
  * ÿ߳ʹõԴᱻ¼ڸñ
  * ߳ڽʱЩڸ߳ϵԴԴͷ
+ * ִֻ߳һ,ԴThreadLocal,빲ӳ
  * 
  * @author yzhu
  * 
@@ -18,6 +19,8 @@ public class AttachedResourceTbl {
 
 	private final CopyOnWriteMap<Thread, Map<String, Resource<?>>> _attachedResources
 			= new CopyOnWriteMap<>();// ÿ߳ʹõԴӳ
+	private final ThreadLocal<Map<String, Resource<?>>> _localResources
+			= new ThreadLocal<>();// ߳ʹõԴӳ
 
 	/**
 	 * ԴӳͶӦ̰߳
@@ -44,13 +47,42 @@ public class AttachedResourceTbl {
 		this._attachedResources.flush();
 	}
 
+	/**
+	 * Ϊǰ̷߳Դӳ,ִֻһ߳
+	 */
+	public void attachLocal() {
+		this._localResources.set(new HashMap<>());
+	}
+
+	/**
+	 * ٵǰ̶߳ԴӳеԴ
+	 */
+	public void detachLocal() {
+		Map<String, Resource<?>> tbl = this._localResources.get();
+		if (tbl == null)
+			return;
+		this._localResources.remove();
+		for (Resource<?> resource : tbl.values()) {
+			resource.destroy();
+		}
+	}
+
+	/**
+	 * ǰ̵߳Դӳ,ʹ̶߳Դӳ
+	 */
+	private Map<String, Resource<?>> mappingOfCurrent() {
+		Map<String, Resource<?>> mapping = this._localResources.get();
+		if (mapping != null)
+			return mapping;
+		return this._attachedResources.get(Thread.currentThread());
+	}
+
 	/**
 	 * õǰ߳nameָԴ
 	 */
 	@SuppressWarnings("unchecked")
 	public <T> T getResource(String name) {
-		Thread current = Thread.currentThread();
-		Map<String, Resource<?>> mapping = this._attachedResources.get(current);
+		Map<String, Resource<?>> mapping = this.mappingOfCurrent();
 		Resource<?> resource = mapping.get(name);
 		if (resource != null) {
 			return (T) resource.getResource();
@@ -62,8 +94,7 @@ public class AttachedResourceTbl {
 	 * ضԴ󶨵ǰ߳
 	 */
 	public void attachResource(String name, Resource<?> resource) {
-		Thread current = Thread.currentThread();
-		Map<String, Resource<?>> mapping = this._attachedResources.get(current);
+		Map<String, Resource<?>> mapping = this.mappingOfCurrent();
 		mapping.put(name, resource);
 	}
 }
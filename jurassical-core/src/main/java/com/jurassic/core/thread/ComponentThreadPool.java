@@ -18,6 +18,7 @@ public class ComponentThreadPool extends ThreadPoolExecutor {
 
 	private final ComponentClassLoader _clzLoader;// İӦ,ҲΪ̵߳ļ
 	private final AttachedResourceTbl _attachedResourceTbl;// ߳ʹõԴӳ
+	private final VirtualThreadExecutor _virtualExecutor;// ߳ģʽĴʹõִ
 
 	public ComponentThreadPool(int nThreads, ThreadFactory factory, ComponentClassLoader clzLoader,
 			AttachedResourceTbl mapping) {
@@ -25,6 +26,14 @@ public class ComponentThreadPool extends ThreadPoolExecutor {
 				new LinkedBlockingQueue<>(), factory);
 		this._clzLoader = clzLoader;
 		this._attachedResourceTbl = mapping;
+		this._virtualExecutor = new VirtualThreadExecutor(clzLoader, mapping);
+	}
+
+	/**
+	 * ִ߳,̳߳ʹͬԴӳ
+	 */
+	public VirtualThreadExecutor getVirtualExecutor() {
+		return this._virtualExecutor;
 	}
 
 	/**
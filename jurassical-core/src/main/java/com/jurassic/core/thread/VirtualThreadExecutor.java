@@ -0,0 +1,87 @@
+package com.jurassic.core.thread;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.jurassic.core.classloader.ComponentClassLoader;
+import com.jurassic.core.resource.AttachedResourceTbl;
+
+/**
+ * ִ߳
+ * ÿһµִ߳,̲߳ػ
+ * ִ߳ǰ̳߳һ,󶨺ͷ߳Դ
+ * ̵߳ԴThreadLocal,ӳȫ
+ * еjvm̵֧߳ʱ˻Ϊͨػ߳
+ *
+ * @author yzhu
+ */
+public class VirtualThreadExecutor implements Executor {
+
+	private static final Logger logger = LoggerFactory.getLogger(VirtualThreadExecutor.class);
+
+	// ̹߳,jvmֵ֧ʱΪnull
+	private static final ThreadFactory VIRTUAL_FACTORY = createVirtualFactory();
+
+	private final ComponentClassLoader _clzLoader;// ̵߳
+	private final AttachedResourceTbl _attachedResourceTbl;// ߳ʹõԴӳ
+	private final AtomicLong _threadNumber = new AtomicLong(1);// ˻Ϊͨ߳ʱļ
+
+	public VirtualThreadExecutor(ComponentClassLoader clzLoader,
+								 AttachedResourceTbl mapping) {
+		this._clzLoader = clzLoader;
+		this._attachedResourceTbl = mapping;
+	}
+
+	/**
+	 * ͨʹThread.ofVirtual(),Ŀ汾̵߳api
+	 */
+	private static ThreadFactory createVirtualFactory() {
+		try {
+			Method ofVirtual = Thread.class.getMethod("ofVirtual");
+			Class<?> builderClz = Class.forName("java.lang.Thread$Builder");
+			Object builder = ofVirtual.invoke(null);
+			builder = builderClz.getMethod("name", String.class, long.class)
+					.invoke(builder, "jurassic-virtual-", 0L);
+			return (ThreadFactory) builderClz.getMethod("factory").invoke(builder);
+		} catch (Throwable ex) {
+			logger.warn("virtual thread not supported, fall back to platform thread");
+			return null;
+		}
+	}
+
+	/**
+	 * жеjvmǷ֧߳
+	 */
+	public static boolean isSupported() {
+		return VIRTUAL_FACTORY != null;
+	}
+
+	public void execute(Runnable command) {
+		Runnable task = () -> {
+			if (this._clzLoader != null)
+				Thread.currentThread().setContextClassLoader(this._clzLoader);
+			if (this._attachedResourceTbl != null)
+				this._attachedResourceTbl.attachLocal();
+			try {
+				command.run();
+			} finally {
+				// ߳̽ǰԴ
+				if (this._attachedResourceTbl != null)
+					this._attachedResourceTbl.detachLocal();
+			}
+		};
+		Thread thread;
+		if (VIRTUAL_FACTORY != null) {
+			thread = VIRTUAL_FACTORY.newThread(task);
+		} else {
+			thread = new Thread(task, "jurassic-virtual-" + this._threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+		}
+		thread.start();
+	}
+}
@@ -2,8 +2,6 @@ package com.jurassic.core.time;
 
 import com.jurassic.core.event.Event;
 
-import java.util.List;
-
 /**
  * ִеʱͳ
  * ռ˸һ̶ʱִ
@@ -17,41 +15,29 @@ public class TimeStaticsInfo {
 	private int _finishNum;
 	// 
 	private int _errNum;
-	// ¼ƽȴִʱ,
-	private long _avgWaitingTime;
-	// ¼ƽִʱ,
-	private long _avgExecTime;
+	// ¼ۼƵȴִʱ,
+	private long _totalWaitingTime;
+	// ¼ۼִʱ,
+	private long _totalExecTime;
 
 	/**
-	 * ʱִϢͳ
+	 * ¼ִϢͳ
 	 */
-	public void finishEvent(List<Event> events) {
-		long waitingTime = 0;
-		long executeTime = 0;
-		for (Event t : events) {
-			// ָȴʱ
-			waitingTime += t.getDealTime() - t.getPublishTime();
-			// ִָеʱ
-			executeTime += t.getFinishTime() - t.getDealTime();
-
-			this._finishNum++;
-			if (t.getError() != null)
-				this._errNum++;
-		}
-
-		this._avgWaitingTime += (waitingTime - this._avgWaitingTime * events.size())
-				/ this._finishNum;
-		this._avgExecTime += (executeTime - this._avgExecTime * events.size())
-				/ this._finishNum;
-
+	public void finishEvent(Event t) {
+		this._finishNum++;
+		if (t.getError() != null)
+			this._errNum++;
+		// ۼָȴʱִеʱ,ȡʱټƽֵ
+		this._totalWaitingTime += t.getDealTime() - t.getPublishTime();
+		this._totalExecTime += t.getFinishTime() - t.getDealTime();
 	}
 
 	/**
 	 * ͳϢ
 	 */
 	public void reset() {
-		this._avgExecTime = 0;
-		this._avgWaitingTime = 0;
+		this._totalExecTime = 0;
+		this._totalWaitingTime = 0;
 		this._errNum = 0;
 		this._finishNum = 0;
 	}
@@ -65,11 +51,11 @@ public class TimeStaticsInfo {
 	}
 
 	public long getAvgWaitingTime() {
-		return _avgWaitingTime;
+		return this._finishNum > 0 ? this._totalWaitingTime / this._finishNum : 0;
 	}
 
 	public long getAvgExecTime() {
-		return _avgExecTime;
+		return this._finishNum > 0 ? this._totalExecTime / this._finishNum : 0;
 	}
 
 }
@@ -0,0 +1,326 @@
+package com.jurassic.core.time;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ʱ
+ * ʱwheelSize,ָÿtickǰһ,ڵĶʱʱִ߳
+ * һȦĶʱ¼ʣȦ,ָ뾭ʱһ,ȦΪ0ʱ
+ * ӺȡʱֻǷ,ʱ߳һtickʱҵϻߴӲժ,
+ * ˶O(1)Ĳ,ʺϴ̳ʱ󲿷ֻᱻȡĶʱ
+ * ʱʱִ߳,Ҫ췵,ʱĴӦ
+ * ÿtickĵִɺִafterTick,tickеڵ
+ *
+ * @author yzhu
+ */
+public class TimingWheel {
+
+	public static final String GLOBAL_KEY = "timing_wheel";
+
+	private static final Logger logger = LoggerFactory.getLogger(TimingWheel.class);
+	// ÿtickҵϵĶʱ,ֹӵʱڵ޷ʱִ
+	private static final int MAX_TRANSFER_PER_TICK = 100000;
+
+	private final String _name;// ʱ̵߳
+	private final long _tick;// ÿһʱ(ns)
+	private final Slot[] _wheel;// ʱֵĲ
+	private final int _mask;// ۵±
+	private final Queue<Timeout> _pending = new ConcurrentLinkedQueue<>();// ȴҵϵĶʱ
+	private final Queue<Timeout> _cancelled = new ConcurrentLinkedQueue<>();// ȴӲժĶʱ
+
+	private final Runnable _afterTick;// ÿtickִ֮,Ϊnull
+
+	// ָ
+	private final AtomicLong _scheduledNum = new AtomicLong();// ӵĶʱ
+	private final AtomicLong _pendingNum = new AtomicLong();// ȴڵĶʱ
+	private volatile long _expiredNum = 0;// ִеĶʱ,ֻʱ߳޸
+	private volatile long _totalLateness = 0;// ӳ(ns),ֻʱ߳޸
+	private volatile long _maxLateness = 0;// ӳ(ns),ֻʱ߳޸
+
+	private volatile boolean _running = false;
+	private Thread _worker;// ʱ߳
+	private long _startTime;// ʱ߳ʱ(ns)
+	private long _tickNum = 0;// ָѾ߹ĸ,ʱ߳еʱֻʱ߳Ϸ
+
+	/**
+	 * tickMillisΪÿһʱ,wheelSizeΪ2ݴη
+	 */
+	public TimingWheel(String name, long tickMillis, int wheelSize) {
+		this(name, tickMillis, wheelSize, null);
+	}
+
+	public TimingWheel(String name, long tickMillis, int wheelSize, Runnable afterTick) {
+		this._name = name;
+		this._afterTick = afterTick;
+		this._tick = TimeUnit.MILLISECONDS.toNanos(tickMillis > 0 ? tickMillis : 1);
+		int size = 1;
+		while (size < wheelSize)
+			size <<= 1;
+		this._wheel = new Slot[size];
+		for (int i = 0; i < size; i++) {
+			this._wheel[i] = new Slot();
+		}
+		this._mask = size - 1;
+	}
+
+	public synchronized void start() {
+		if (this._running)
+			return;
+		this._running = true;
+		// ʱָ0ʼ,µʱӦ,Thread.start֤ʱ߳̿úֵ
+		this._startTime = System.nanoTime();
+		this._tickNum = 0;
+		this._worker = new Thread(this::run, this._name);
+		this._worker.setDaemon(true);
+		this._worker.start();
+	}
+
+	/**
+	 * رʱ,δڵĶʱ񶼱
+	 */
+	public synchronized void stop() {
+		if (!this._running)
+			return;
+		this._running = false;
+		this._worker.interrupt();
+		try {
+			this._worker.join();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		this._worker = null;
+		this._tickNum = 0;
+		this._pending.clear();
+		this._cancelled.clear();
+		this._pendingNum.set(0);
+		for (Slot slot : this._wheel) {
+			slot.clear();
+		}
+	}
+
+	/**
+	 * Ӷʱ,delay֮ʱִ߳
+	 */
+	public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+		Timeout timeout = new Timeout(this, task,
+				System.nanoTime() + Math.max(unit.toNanos(delay), 0));
+		this._scheduledNum.incrementAndGet();
+		this._pendingNum.incrementAndGet();
+		this._pending.add(timeout);
+		return timeout;
+	}
+
+	public long getScheduledNum() {
+		return this._scheduledNum.get();
+	}
+
+	/**
+	 * ȴڵĶʱ,ûйҵϵ
+	 */
+	public long getPendingNum() {
+		return this._pendingNum.get();
+	}
+
+	public long getExpiredNum() {
+		return this._expiredNum;
+	}
+
+	/**
+	 * ʵִʱڵʱƽӳ(us)
+	 */
+	public long getAvgLateness() {
+		long expired = this._expiredNum;
+		return expired > 0 ? this._totalLateness / expired / 1000L : 0;
+	}
+
+	/**
+	 * ʵִʱڵʱӳ(us)
+	 */
+	public long getMaxLateness() {
+		return this._maxLateness / 1000L;
+	}
+
+	private void run() {
+		while (this._running) {
+			// ȴһʱ䵽
+			long deadline = this._startTime + this._tick * (this._tickNum + 1);
+			long sleep = deadline - System.nanoTime();
+			if (sleep > 0) {
+				try {
+					TimeUnit.NANOSECONDS.sleep(sleep);
+				} catch (InterruptedException ex) {
+					continue;// رʱֵʱж
+				}
+			}
+			this.removeCancelled();
+			this.transferPending();
+			this._wheel[(int) (this._tickNum & this._mask)].expire(deadline);
+			this._tickNum++;
+			if (this._afterTick != null) {
+				try {
+					this._afterTick.run();
+				} catch (Throwable ex) {
+					logger.warn("after tick fail", ex);
+				}
+			}
+		}
+	}
+
+	/**
+	 * ӵĶʱҵӦĲ
+	 */
+	private void transferPending() {
+		for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+			Timeout timeout = this._pending.poll();
+			if (timeout == null)
+				return;
+			if (timeout.isCancelled())
+				continue;
+			long ticks = (timeout._deadline - this._startTime) / this._tick;
+			timeout._rounds = (ticks - this._tickNum) / this._wheel.length;
+			// ѾڵŵǰĲ,ڱtickִ
+			long index = Math.max(ticks, this._tickNum);
+			this._wheel[(int) (index & this._mask)].add(timeout);
+		}
+	}
+
+	/**
+	 * ȡĶʱӲժ,ͷõĶ
+	 */
+	private void removeCancelled() {
+		Timeout timeout;
+		while ((timeout = this._cancelled.poll()) != null) {
+			if (timeout._slot != null)
+				timeout._slot.remove(timeout);
+		}
+	}
+
+	/**
+	 * ʱľ
+	 */
+	public static final class Timeout {
+		private static final int ST_INIT = 0;
+		private static final int ST_CANCELLED = 1;
+		private static final int ST_EXPIRED = 2;
+		private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+				AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "_state");
+
+		private final TimingWheel _timingWheel;
+		private final Runnable _task;
+		private final long _deadline;// ʱ(ns)
+		private volatile int _state = ST_INIT;
+
+		// ֶֻʱ߳Ϸ
+		private long _rounds;// ʣȦ
+		private Slot _slot;// ڵĲ
+		private Timeout _prev;
+		private Timeout _next;
+
+		private Timeout(TimingWheel timingWheel, Runnable task, long deadline) {
+			this._timingWheel = timingWheel;
+			this._task = task;
+			this._deadline = deadline;
+		}
+
+		/**
+		 * ȡʱ,Ƿڵ֮ǰȡɹ
+		 */
+		public boolean cancel() {
+			if (!STATE.compareAndSet(this, ST_INIT, ST_CANCELLED))
+				return false;
+			this._timingWheel._pendingNum.decrementAndGet();
+			this._timingWheel._cancelled.add(this);
+			return true;
+		}
+
+		public boolean isCancelled() {
+			return this._state == ST_CANCELLED;
+		}
+
+		public boolean isExpired() {
+			return this._state == ST_EXPIRED;
+		}
+
+		private void expire() {
+			if (!STATE.compareAndSet(this, ST_INIT, ST_EXPIRED))
+				return;
+			TimingWheel timingWheel = this._timingWheel;
+			timingWheel._pendingNum.decrementAndGet();
+			long lateness = System.nanoTime() - this._deadline;
+			timingWheel._expiredNum++;
+			timingWheel._totalLateness += lateness;
+			if (lateness > timingWheel._maxLateness)
+				timingWheel._maxLateness = lateness;
+			try {
+				this._task.run();
+			} catch (Throwable ex) {
+				logger.warn("timeout task fail", ex);
+			}
+		}
+	}
+
+	/**
+	 * ʱֵĲ,ʱɵ˫,ֻʱ߳Ϸ
+	 */
+	private static final class Slot {
+		private Timeout _head;
+		private Timeout _tail;
+
+		void add(Timeout timeout) {
+			timeout._slot = this;
+			if (this._head == null) {
+				this._head = this._tail = timeout;
+			} else {
+				this._tail._next = timeout;
+				timeout._prev = this._tail;
+				this._tail = timeout;
+			}
+		}
+
+		void remove(Timeout timeout) {
+			if (timeout._prev != null)
+				timeout._prev._next = timeout._next;
+			else
+				this._head = timeout._next;
+			if (timeout._next != null)
+				timeout._next._prev = timeout._prev;
+			else
+				this._tail = timeout._prev;
+			timeout._prev = null;
+			timeout._next = null;
+			timeout._slot = null;
+		}
+
+		/**
+		 * ִвеڵĶʱ,Ȧһ
+		 */
+		void expire(long deadline) {
+			Timeout timeout = this._head;
+			while (timeout != null) {
+				Timeout next = timeout._next;
+				if (timeout._rounds <= 0 && timeout._deadline <= deadline) {
+					this.remove(timeout);
+					timeout.expire();
+				} else if (timeout.isCancelled()) {
+					this.remove(timeout);
+				} else {
+					timeout._rounds--;
+				}
+				timeout = next;
+			}
+		}
+
+		void clear() {
+			while (this._head != null) {
+				this.remove(this._head);
+			}
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package com.jurassic.core.util;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * нĶߵ߶
+ *
+ * ڹʱһԷеĲλ,ӳӲκµĶ
+ * ÿλһ,ͨCASβ,дݺ󷢲λ
+ * ֻһ߳,peekpollҪɵ֤߱
+ * ֱ֧
+ *
+ * @author yzhu
+ */
+public class MpscArrayQueue<E> extends AbstractQueue<E> {
+
+	private final int _capacity;// ,2ݴη
+	private final int _mask;// ±
+	private final AtomicReferenceArray<E> _buffer;// ݲλ
+	private final AtomicLongArray _sequences;// ÿλ
+	private final AtomicLong _tail = new AtomicLong(0);// β,߾
+	private final AtomicLong _head = new AtomicLong(0);// ,ֻ޸
+
+	public MpscArrayQueue(int capacity) {
+		int size = 1;
+		while (size < capacity) {
+			size <<= 1;
+		}
+		this._capacity = size;
+		this._mask = size - 1;
+		this._buffer = new AtomicReferenceArray<>(size);
+		this._sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			this._sequences.set(i, i);
+		}
+	}
+
+	/**
+	 * ,false
+	 */
+	public boolean offer(E e) {
+		while (true) {
+			long tail = this._tail.get();
+			int index = (int) (tail & this._mask);
+			long seq = this._sequences.get(index);
+			if (seq == tail) {
+				// λ,β
+				if (this._tail.compareAndSet(tail, tail + 1)) {
+					this._buffer.set(index, e);
+					// λ,ߴ˺ɼ
+					this._sequences.lazySet(index, tail + 1);
+					return true;
+				}
+			} else if (seq < tail) {
+				// λûбͷ,
+				return false;
+			}
+			// Ѿռ˸òλ,¶ȡβ
+		}
+	}
+
+	/**
+	 * 鿴׵,Ϊջ߶ݻûд귵null
+	 */
+	public E peek() {
+		long head = this._head.get();
+		int index = (int) (head & this._mask);
+		if (this._sequences.get(index) != head + 1) {
+			return null;
+		}
+		return this._buffer.get(index);
+	}
+
+	/**
+	 * ,Ϊջ߶ݻûд귵null
+	 */
+	public E poll() {
+		long head = this._head.get();
+		int index = (int) (head & this._mask);
+		if (this._sequences.get(index) != head + 1) {
+			return null;
+		}
+		E e = this._buffer.get(index);
+		this._buffer.lazySet(index, null);
+		// ͷŲλһֵ
+		this._sequences.lazySet(index, head + this._capacity);
+		this._head.lazySet(head + 1);
+		return e;
+	}
+
+	/**
+	 * ж϶ǷΪ
+	 * ѾռõûдĲλҲǿ
+	 */
+	public boolean isEmpty() {
+		return this._head.get() == this._tail.get();
+	}
+
+	/**
+	 * ǰе
+	 */
+	public int size() {
+		long size = this._tail.get() - this._head.get();
+		if (size < 0)
+			return 0;
+		return size > this._capacity ? this._capacity : (int) size;
+	}
+
+	public int capacity() {
+		return this._capacity;
+	}
+
+	public Iterator<E> iterator() {
+		throw new UnsupportedOperationException("mpsc queue not support iterator");
+	}
+}